@@ -16,8 +16,12 @@
 
 package com.fasterxml.jackson.datatype.jsr310;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.function.BiFunction;
@@ -95,6 +99,57 @@ public final class DecimalUtils
         return NumberInput.parseBigDecimal(toDecimal(seconds, nanoseconds), false);
     }
 
+    /**
+     * Method for writing decimal number out of second, nano-second components
+     * using given generator: output is the same as with
+     * {@code g.writeNumber(toBigDecimal(seconds, nanoseconds))} (or, if
+     * {@code negate} is true, {@code g.writeNumber(toBigDecimal(seconds, nanoseconds).negate())}),
+     * but without constructing intermediate {@link String}s or {@link BigDecimal}s
+     * when generator can write formatted numbers.
+     *
+     * @param negate Whether value is to be written as negative: only to be
+     *    used with non-negative {@code seconds}
+     *
+     * @since 2.19
+     */
+    public static void writeDecimal(JsonGenerator g, long seconds, int nanoseconds,
+            boolean negate)
+        throws IOException
+    {
+        // Need to use BigDecimal if: generator needs actual type (like TokenBuffer);
+        // BigDecimal would use scientific notation (below 0.000001); or
+        // for "0.0" (where trailing zeroes are not used). Note that JSON generators
+        // do not claim to write formatted numbers but output them as is
+        if (!_canWriteDecimalText(g) || (seconds == 0L && nanoseconds < 1000)) {
+            BigDecimal bd = toBigDecimal(seconds, nanoseconds);
+            g.writeNumber(negate ? bd.negate() : bd);
+            return;
+        }
+        final char[] buf = TextBuffers.charBuffer();
+        // Let's write from the end: first nanoseconds, all 9 digits
+        final int end = 30;
+        int ix = end;
+        for (int i = 0; i < 9; ++i) {
+            buf[--ix] = (char) ('0' + (nanoseconds % 10));
+            nanoseconds /= 10;
+        }
+        buf[--ix] = '.';
+        // then seconds; negative values handled as is to work for Long.MIN_VALUE too
+        long secs = seconds;
+        do {
+            buf[--ix] = (char) ('0' + Math.abs((int) (secs % 10L)));
+            secs /= 10L;
+        } while (secs != 0L);
+        if (negate || (seconds < 0L)) {
+            buf[--ix] = '-';
+        }
+        g.writeNumber(buf, ix, end - ix);
+    }
+
+    private static boolean _canWriteDecimalText(JsonGenerator g) {
+        return (g instanceof JsonGeneratorImpl) || g.canWriteFormattedNumbers();
+    }
+
     /**
      * Extracts the seconds and nanoseconds component of {@code seconds} as {@code long} and {@code int}
      * values, passing them to the given converter.   The implementation avoids latency issues present
@@ -150,4 +205,103 @@ public final class DecimalUtils
 
         return convert.apply(secondsOnly, nanosOnly);
     }
+
+    /**
+     * Method for checking whether given text is a plain decimal number (optional sign,
+     * at least one digit, at most one decimal point; no exponent) with integral part
+     * short enough to be decoded by {@link #extractSeconds(char[], int, int)} and
+     * {@link #extractNanos(char[], int, int, boolean)} without using {@link BigDecimal}.
+     *
+     * @since 2.19
+     */
+    public static boolean canExtractSecondsAndNanos(char[] ch, int offset, int len)
+    {
+        final int end = offset + len;
+        int ix = offset;
+        if ((ix < end) && (ch[ix] == '-' || ch[ix] == '+')) {
+            ++ix;
+        }
+        int intDigits = 0;
+        int fractDigits = -1;
+        for (; ix < end; ++ix) {
+            final char c = ch[ix];
+            if (c >= '0' && c <= '9') {
+                if (fractDigits < 0) {
+                    ++intDigits;
+                } else {
+                    ++fractDigits;
+                }
+            } else if (c == '.' && fractDigits < 0) {
+                fractDigits = 0;
+            } else {
+                return false;
+            }
+        }
+        // 18 digits is the most that is guaranteed to fit in a long
+        return (intDigits <= 18) && ((intDigits + Math.max(fractDigits, 0)) > 0);
+    }
+
+    /**
+     * Extracts the seconds component of plain decimal number given as text, with same
+     * semantics as {@link #extractSecondsAndNanos(BigDecimal, BiFunction, boolean)};
+     * caller has to verify that text is valid using
+     * {@link #canExtractSecondsAndNanos(char[], int, int)}.
+     *
+     * @since 2.19
+     */
+    public static long extractSeconds(char[] ch, int offset, int len)
+    {
+        final int end = offset + len;
+        int ix = offset;
+        final boolean negative = (ch[ix] == '-');
+        if (negative || ch[ix] == '+') {
+            ++ix;
+        }
+        long secs = 0L;
+        for (; ix < end; ++ix) {
+            final char c = ch[ix];
+            if (c == '.') {
+                break;
+            }
+            secs = (secs * 10L) + (c - '0');
+        }
+        return negative ? -secs : secs;
+    }
+
+    /**
+     * Extracts the nanoseconds component of plain decimal number given as text, with same
+     * semantics as {@link #extractSecondsAndNanos(BigDecimal, BiFunction, boolean)}:
+     * digits beyond nanosecond precision are truncated.
+     * Caller has to verify that text is valid using
+     * {@link #canExtractSecondsAndNanos(char[], int, int)}.
+     *
+     * @since 2.19
+     */
+    public static int extractNanos(char[] ch, int offset, int len, boolean negativeAdjustment)
+    {
+        final int end = offset + len;
+        int ix = offset;
+        while (ix < end && ch[ix] != '.') {
+            ++ix;
+        }
+        int nanos = 0;
+        int digits = 0;
+        for (++ix; (ix < end) && (digits < 9); ++ix, ++digits) {
+            nanos = (nanos * 10) + (ch[ix] - '0');
+        }
+        for (; digits < 9; ++digits) {
+            nanos *= 10;
+        }
+        if (ch[offset] == '-') {
+            if (negativeAdjustment) {
+                // same as BigDecimal variant: absolute nanos for negative seconds
+                final long secs = extractSeconds(ch, offset, len);
+                if (secs < 0L && secs > Instant.MIN.getEpochSecond()) {
+                    return nanos;
+                }
+            }
+            return -nanos;
+        }
+        return nanos;
+    }
 }
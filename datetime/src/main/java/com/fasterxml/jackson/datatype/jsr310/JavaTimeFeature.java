@@ -51,7 +51,109 @@ public enum JavaTimeFeature implements JacksonFeature
      *<p>
      * Default setting is false, meaning that Month is serialized/deserialized as a zero-based index.
      */
-    ONE_BASED_MONTHS(false)
+    ONE_BASED_MONTHS(false),
+
+    /**
+     * Feature that determines whether textual values written using default ISO-8601
+     * representation (by serializers of {@link java.time.Instant},
+     * {@link java.time.OffsetDateTime}, {@link java.time.ZonedDateTime},
+     * {@link java.time.LocalDate}, {@link java.time.LocalDateTime} and
+     * {@link java.time.LocalTime}) are written as pre-encoded ASCII bytes using
+     * {@link com.fasterxml.jackson.core.JsonGenerator#writeRawUTF8String} (enabled)
+     * or as regular Strings (disabled). Since such values never contain characters that
+     * need escaping, this avoids per-character escape checks and encoding; it is only
+     * used with UTF-8 encoding JSON generators that have no custom character escapes.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.18.
+     *
+     * @since 2.19
+     */
+    WRITE_ISO_STRINGS_AS_RAW_UTF8(false),
+
+    /**
+     * Feature that determines whether serializers of {@link java.time.Instant},
+     * {@link java.time.OffsetDateTime} and {@link java.time.ZonedDateTime} use a
+     * per-thread cache of the last written {@code yyyy-MM-ddTHH:mm:ss} part of default
+     * ISO-8601 representation (enabled) or not (disabled). Caching helps when
+     * consecutive values written by a thread typically fall within the same second;
+     * {@link com.fasterxml.jackson.datatype.jsr310.util.DateTimePrefixCache} exposes
+     * hit and miss counts to verify this.
+     *<p>
+     * Default setting is disabled since caching only pays off for specific
+     * usage patterns.
+     *
+     * @since 2.19
+     */
+    CACHE_ISO_DATE_TIME_PREFIX(false),
+
+    /**
+     * Feature that determines whether serializers (and key serializers) of
+     * {@link java.time.LocalDate} and {@link java.time.YearMonth} reuse cached
+     * serialized default ISO-8601 representations (including their encoded forms)
+     * (enabled), or not (disabled). For {@link java.time.LocalDate} a bounded
+     * cache keyed by epoch day is used; for {@link java.time.YearMonth} tables of
+     * {@link com.fasterxml.jackson.datatype.jsr310.util.CalendarValues}, covering years
+     * {@value com.fasterxml.jackson.datatype.jsr310.util.CalendarValues#MIN_TABLE_YEAR} to
+     * {@value com.fasterxml.jackson.datatype.jsr310.util.CalendarValues#MAX_TABLE_YEAR}.
+     * Caching helps when a small set of distinct values is written over and over;
+     * memory usage is capped regardless of values written.
+     *<p>
+     * Default setting is disabled since caching only pays off for specific
+     * usage patterns.
+     *
+     * @since 2.19
+     */
+    CACHE_DATE_STRINGS(false),
+
+    /**
+     * Feature that determines whether key deserializers of {@code java.time} types
+     * (other than {@link java.time.ZoneId} and {@link java.time.ZoneOffset}, which
+     * are always cached) keep a bounded cache of {@link java.util.Map} key Strings
+     * to deserialized values (enabled), or not (disabled). Caching helps when
+     * a small set of distinct keys (like dates of a time series) is read over
+     * and over; memory usage is capped regardless of keys read.
+     * Only values of keys in canonical ({@code toString()}) representation are cached.
+     *<p>
+     * Default setting is disabled since caching only pays off for specific
+     * usage patterns.
+     *
+     * @since 2.19
+     */
+    CACHE_DESERIALIZED_MAP_KEYS(false),
+
+    /**
+     * Feature that determines whether
+     * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS}
+     * applies to {@link java.util.Map} keys of all types that have numeric representation
+     * (enabled), or only to keys of type {@link java.time.ZonedDateTime} (disabled).
+     * If enabled, keys of type {@link java.time.Instant} and {@link java.time.OffsetDateTime}
+     * are written same as {@link java.time.ZonedDateTime} keys (as epoch milliseconds;
+     * or as epoch seconds with nanoseconds, if
+     * {@link com.fasterxml.jackson.databind.SerializationFeature#WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS}
+     * is enabled), and keys of type {@link java.time.LocalDate} as epoch days.
+     *<p>
+     * Default setting is disabled, for backwards-compatibility with
+     * Jackson 2.18.
+     *
+     * @since 2.19
+     */
+    WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES(false),
+
+    /**
+     * Feature that determines whether deserializers of {@link java.time.LocalDate},
+     * {@link java.time.YearMonth} and {@link java.time.Year} pass deserialized values
+     * through a bounded intern pool (enabled), so that equal values share a single
+     * instance, or not (disabled). Interning helps when large numbers of deserialized
+     * values are retained in memory but there are relatively few distinct values;
+     * memory usage of the pool itself is capped regardless of values read.
+     *<p>
+     * Default setting is disabled since interning only pays off for specific
+     * usage patterns.
+     *
+     * @since 2.19
+     */
+    INTERN_DESERIALIZED_DATES(false)
     ;
 
   /**
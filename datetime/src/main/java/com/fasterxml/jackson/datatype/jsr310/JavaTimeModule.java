@@ -37,7 +37,7 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import com.fasterxml.jackson.datatype.jsr310.deser.*;
 import com.fasterxml.jackson.datatype.jsr310.deser.key.*;
 import com.fasterxml.jackson.datatype.jsr310.ser.*;
-import com.fasterxml.jackson.datatype.jsr310.ser.key.ZonedDateTimeKeySerializer;
+import com.fasterxml.jackson.datatype.jsr310.ser.key.*;
 
 /**
  * Class that registers capability of serializing {@code java.time} objects with the Jackson core.
@@ -137,8 +137,8 @@ public final class JavaTimeModule
         desers.addDeserializer(MonthDay.class, MonthDayDeserializer.INSTANCE);
         desers.addDeserializer(OffsetTime.class, OffsetTimeDeserializer.INSTANCE);
         desers.addDeserializer(Period.class, JSR310StringParsableDeserializer.PERIOD);
-        desers.addDeserializer(Year.class, YearDeserializer.INSTANCE);
-        desers.addDeserializer(YearMonth.class, YearMonthDeserializer.INSTANCE);
+        desers.addDeserializer(Year.class, YearDeserializer.INSTANCE.withFeatures(_features));
+        desers.addDeserializer(YearMonth.class, YearMonthDeserializer.INSTANCE.withFeatures(_features));
         desers.addDeserializer(ZoneId.class, JSR310StringParsableDeserializer.ZONE_ID);
         desers.addDeserializer(ZoneOffset.class, JSR310StringParsableDeserializer.ZONE_OFFSET);
 
@@ -157,28 +157,28 @@ public final class JavaTimeModule
         JavaTimeSerializers sers = new JavaTimeSerializers();
 
         sers.addSerializer(Duration.class, DurationSerializer.INSTANCE);
-        sers.addSerializer(Instant.class, InstantSerializer.INSTANCE);
-        sers.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.INSTANCE);
-        sers.addSerializer(LocalDate.class, LocalDateSerializer.INSTANCE);
-        sers.addSerializer(LocalTime.class, LocalTimeSerializer.INSTANCE);
+        sers.addSerializer(Instant.class, InstantSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(LocalDateTime.class, LocalDateTimeSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(LocalDate.class, LocalDateSerializer.INSTANCE.withFeatures(_features));
+        sers.addSerializer(LocalTime.class, LocalTimeSerializer.INSTANCE.withFeatures(_features));
         sers.addSerializer(MonthDay.class, MonthDaySerializer.INSTANCE);
-        sers.addSerializer(OffsetDateTime.class, OffsetDateTimeSerializer.INSTANCE);
+        sers.addSerializer(OffsetDateTime.class, OffsetDateTimeSerializer.INSTANCE.withFeatures(_features));
         sers.addSerializer(OffsetTime.class, OffsetTimeSerializer.INSTANCE);
         sers.addSerializer(Period.class, new ToStringSerializer(Period.class));
         sers.addSerializer(Year.class, YearSerializer.INSTANCE);
-        sers.addSerializer(YearMonth.class, YearMonthSerializer.INSTANCE);
+        sers.addSerializer(YearMonth.class, YearMonthSerializer.INSTANCE.withFeatures(_features));
 
         /* 27-Jun-2015, tatu: This is the real difference from the old
          *  {@link JSR310Module}: default is to produce ISO-8601 compatible
          *  serialization with timezone offset only, not timezone id.
          *  But this is configurable.
          */
-        sers.addSerializer(ZonedDateTime.class, ZonedDateTimeSerializer.INSTANCE);
+        sers.addSerializer(ZonedDateTime.class, ZonedDateTimeSerializer.INSTANCE.withFeatures(_features));
 
         // since 2.11: need to override Type Id handling
         // (actual concrete type is `ZoneRegion`, but that's not visible)
         sers.addSerializer(ZoneId.class, new ZoneIdSerializer());
-        sers.addSerializer(ZoneOffset.class, new ToStringSerializer(ZoneOffset.class));
+        sers.addSerializer(ZoneOffset.class, ZoneOffsetSerializer.INSTANCE);
 
         context.addSerializers(sers);
         // 20-Nov-2023, tatu: [modules-java8#288]: someone may have directly
@@ -189,6 +189,10 @@ public final class JavaTimeModule
 
         // key serializers
         SimpleSerializers keySers = new SimpleSerializers();
+        keySers.addSerializer(Instant.class, InstantKeySerializer.INSTANCE.withFeatures(_features));
+        keySers.addSerializer(LocalDate.class, LocalDateKeySerializer.INSTANCE.withFeatures(_features));
+        keySers.addSerializer(OffsetDateTime.class, OffsetDateTimeKeySerializer.INSTANCE.withFeatures(_features));
+        keySers.addSerializer(YearMonth.class, YearMonthKeySerializer.INSTANCE.withFeatures(_features));
         keySers.addSerializer(ZonedDateTime.class, ZonedDateTimeKeySerializer.INSTANCE);
         context.addKeySerializers(keySers);
         // 20-Nov-2023, tatu: [modules-java8#288]: someone may have directly
@@ -199,18 +203,31 @@ public final class JavaTimeModule
 
         // key deserializers
         SimpleKeyDeserializers keyDesers = new SimpleKeyDeserializers();
-        keyDesers.addDeserializer(Duration.class, DurationKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Instant.class, InstantKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalDateTime.class, LocalDateTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalDate.class, LocalDateKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(LocalTime.class, LocalTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(MonthDay.class, MonthDayKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(OffsetDateTime.class, OffsetDateTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(OffsetTime.class, OffsetTimeKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Period.class, PeriodKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(Year.class, YearKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(YearMonth.class, YearMonthKeyDeserializer.INSTANCE);
-        keyDesers.addDeserializer(ZonedDateTime.class, ZonedDateTimeKeyDeserializer.INSTANCE);
+        final boolean cacheKeys = _features.isEnabled(JavaTimeFeature.CACHE_DESERIALIZED_MAP_KEYS);
+        keyDesers.addDeserializer(Duration.class, cacheKeys
+                ? DurationKeyDeserializer.INSTANCE.withValueCache() : DurationKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(Instant.class, cacheKeys
+                ? InstantKeyDeserializer.INSTANCE.withValueCache() : InstantKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(LocalDateTime.class, cacheKeys
+                ? LocalDateTimeKeyDeserializer.INSTANCE.withValueCache() : LocalDateTimeKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(LocalDate.class, cacheKeys
+                ? LocalDateKeyDeserializer.INSTANCE.withValueCache() : LocalDateKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(LocalTime.class, cacheKeys
+                ? LocalTimeKeyDeserializer.INSTANCE.withValueCache() : LocalTimeKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(MonthDay.class, cacheKeys
+                ? MonthDayKeyDeserializer.INSTANCE.withValueCache() : MonthDayKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(OffsetDateTime.class, cacheKeys
+                ? OffsetDateTimeKeyDeserializer.INSTANCE.withValueCache() : OffsetDateTimeKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(OffsetTime.class, cacheKeys
+                ? OffsetTimeKeyDeserializer.INSTANCE.withValueCache() : OffsetTimeKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(Period.class, cacheKeys
+                ? PeriodKeyDeserializer.INSTANCE.withValueCache() : PeriodKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(Year.class, cacheKeys
+                ? YearKeyDeserializer.INSTANCE.withValueCache() : YearKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(YearMonth.class, cacheKeys
+                ? YearMonthKeyDeserializer.INSTANCE.withValueCache() : YearMonthKeyDeserializer.INSTANCE);
+        keyDesers.addDeserializer(ZonedDateTime.class, cacheKeys
+                ? ZonedDateTimeKeyDeserializer.INSTANCE.withValueCache() : ZonedDateTimeKeyDeserializer.INSTANCE);
         keyDesers.addDeserializer(ZoneId.class, ZoneIdKeyDeserializer.INSTANCE);
         keyDesers.addDeserializer(ZoneOffset.class, ZoneOffsetKeyDeserializer.INSTANCE);
 
@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 import com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDurationParser;
 
 /**
  * Deserializer for Java 8 temporal {@link Duration}s.
@@ -155,6 +156,16 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
         switch (parser.currentTokenId())
         {
             case JsonTokenId.ID_NUMBER_FLOAT:
+                // For textual formats decode directly from text, no BigDecimal needed
+                if (!parser.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+                    final char[] ch = parser.getTextCharacters();
+                    final int offset = parser.getTextOffset();
+                    final int len = parser.getTextLength();
+                    if ((ch != null) && DecimalUtils.canExtractSecondsAndNanos(ch, offset, len)) {
+                        return Duration.ofSeconds(DecimalUtils.extractSeconds(ch, offset, len),
+                                DecimalUtils.extractNanos(ch, offset, len, false));
+                    }
+                }
                 BigDecimal value = parser.getDecimalValue();
                 // [modules-java8#337] since 2.19, Duration does not need negative adjustment
                 return DecimalUtils.extractSecondsAndNanos(value, Duration::ofSeconds, false);
@@ -196,7 +207,9 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
         }
 
         try {
-            return Duration.parse(value);
+            // Parse without regex matching if possible; JDK handles the rest
+            final Duration d = IsoDurationParser.parseDuration(value);
+            return (d != null) ? d : Duration.parse(value);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, e, value);
         }
@@ -208,12 +221,21 @@ public class DurationDeserializer extends JSR310DeserializerBase<Duration>
         }
         // 20-Oct-2020, tatu: This makes absolutely no sense but... somehow
         //   became the default handling.
-        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+        if ((_inputFlags(ctxt) & INPUT_NANOSECONDS) != 0) {
             return Duration.ofSeconds(ts);
         }
         return Duration.ofMillis(ts);
     }
 
+    @Override // since 2.19
+    protected int _resolveInputFlags(DeserializationContext ctxt) {
+        int flags = super._resolveInputFlags(ctxt);
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            flags |= INPUT_NANOSECONDS;
+        }
+        return flags;
+    }
+
     protected boolean shouldReadTimestampsAsNanoseconds(DeserializationContext context) {
         return (_readTimestampsAsNanosOverride != null) ? _readTimestampsAsNanosOverride :
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
@@ -20,6 +20,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.core.StreamReadCapability;
 import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.BeanProperty;
@@ -27,6 +28,8 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.ContextZone;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -39,6 +42,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalAccessor;
 import java.util.Objects;
+import java.util.TimeZone;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.regex.Matcher;
@@ -82,9 +86,18 @@ public class InstantDeserializer<T extends Temporal>
         return OffsetDateTime.ofInstant(Instant.ofEpochSecond(args.integer, args.fraction), args.zoneId);
     }
 
+    // Value factories of standard instances; needed to know when fast-path
+    // parsing (see IsoDateTimeParser) is applicable
+    private static final Function<TemporalAccessor, Instant> INSTANT_FROM = Instant::from;
+    private static final Function<TemporalAccessor, OffsetDateTime> OFFSET_DATE_TIME_FROM = OffsetDateTime::from;
+    private static final Function<TemporalAccessor, ZonedDateTime> ZONED_DATE_TIME_FROM = ZonedDateTime::from;
+
+    private static final BiFunction<OffsetDateTime, ZoneId, OffsetDateTime> OFFSET_DATE_TIME_ADJUST =
+            (d, z) -> (d.isEqual(OffsetDateTime.MIN) || d.isEqual(OffsetDateTime.MAX) ? d : d.withOffsetSameInstant(z.getRules().getOffset(d.toLocalDateTime())));
+
     public static final InstantDeserializer<Instant> INSTANT = new InstantDeserializer<>(
             Instant.class, DateTimeFormatter.ISO_INSTANT,
-            Instant::from,
+            INSTANT_FROM,
             a -> Instant.ofEpochMilli(a.value),
             a -> Instant.ofEpochSecond(a.integer, a.fraction),
             null,
@@ -95,10 +108,10 @@ public class InstantDeserializer<T extends Temporal>
 
     public static final InstantDeserializer<OffsetDateTime> OFFSET_DATE_TIME = new InstantDeserializer<>(
             OffsetDateTime.class, DateTimeFormatter.ISO_OFFSET_DATE_TIME,
-            OffsetDateTime::from,
+            OFFSET_DATE_TIME_FROM,
             a -> OffsetDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId),
             InstantDeserializer::decimalToOffsetDateTime,
-            (d, z) -> (d.isEqual(OffsetDateTime.MIN) || d.isEqual(OffsetDateTime.MAX) ? d : d.withOffsetSameInstant(z.getRules().getOffset(d.toLocalDateTime()))),
+            OFFSET_DATE_TIME_ADJUST,
             true, // yes, replace zero offset with Z
             DEFAULT_NORMALIZE_ZONE_ID,
             DEFAULT_ALWAYS_ALLOW_STRINGIFIED_DATE_TIMESTAMPS
@@ -106,7 +119,7 @@ public class InstantDeserializer<T extends Temporal>
 
     public static final InstantDeserializer<ZonedDateTime> ZONED_DATE_TIME = new InstantDeserializer<>(
             ZonedDateTime.class, DateTimeFormatter.ISO_ZONED_DATE_TIME,
-            ZonedDateTime::from,
+            ZONED_DATE_TIME_FROM,
             a -> ZonedDateTime.ofInstant(Instant.ofEpochMilli(a.value), a.zoneId),
             a -> ZonedDateTime.ofInstant(Instant.ofEpochSecond(a.integer, a.fraction), a.zoneId),
             ZonedDateTime::withZoneSameInstant,
@@ -168,6 +181,14 @@ public class InstantDeserializer<T extends Temporal>
      */
     protected final boolean _alwaysAllowStringifiedDateTimestamps;
 
+    /**
+     * Zone information resolved from the most recently used context
+     * {@link TimeZone}, reused as long as the same {@code TimeZone} is used.
+     *
+     * @since 2.19
+     */
+    private transient volatile ContextZone _contextZone;
+
     /**
      * @since 2.16
      */
@@ -350,10 +371,15 @@ public class InstantDeserializer<T extends Temporal>
         switch (parser.currentTokenId())
         {
             case JsonTokenId.ID_NUMBER_FLOAT:
-                return _fromDecimal(context, parser.getDecimalValue());
+                return _fromDecimalToken(parser, context);
             case JsonTokenId.ID_NUMBER_INT:
                 return _fromLong(context, parser.getLongValue());
             case JsonTokenId.ID_STRING:
+                // Try parsing text buffer first, without constructing String (nor retrying on fallback)
+                if (parser.hasTextCharacters()) {
+                    T value = _fromTextCharacters(parser, context);
+                    return (value != null) ? value : _fromString(parser, context, parser.getText(), false);
+                }
                 return _fromString(parser, context, parser.getText());
             // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
             case JsonTokenId.ID_START_OBJECT:
@@ -371,6 +397,18 @@ public class InstantDeserializer<T extends Temporal>
                 JsonToken.VALUE_NUMBER_INT, JsonToken.VALUE_NUMBER_FLOAT);
     }
 
+    @Override // since 2.19
+    protected int _resolveInputFlags(DeserializationContext ctxt) {
+        int flags = super._resolveInputFlags(ctxt);
+        if (shouldAdjustToContextTimezone(ctxt)) {
+            flags |= INPUT_ADJUST_TO_CONTEXT_TIME_ZONE;
+        }
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            flags |= INPUT_NANOSECONDS;
+        }
+        return flags;
+    }
+
     protected boolean shouldAdjustToContextTimezone(DeserializationContext context) {
         return (_adjustToContextTZOverride != null) ? _adjustToContextTZOverride :
                 context.isEnabled(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
@@ -405,6 +443,19 @@ public class InstantDeserializer<T extends Temporal>
 
     protected T _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
+    {
+        return _fromString(p, ctxt, string0, true);
+    }
+
+    /**
+     * @param tryIsoChars Whether to try parsing canonical ISO-8601 representations
+     *    without formatter: {@code false} if caller has already done so
+     *    (see {@link #_fromTextCharacters})
+     *
+     * @since 2.19
+     */
+    protected T _fromString(JsonParser p, DeserializationContext ctxt,
+            String string0, boolean tryIsoChars)  throws IOException
     {
         String string = string0.trim();
         if (string.length() == 0) {
@@ -413,6 +464,14 @@ public class InstantDeserializer<T extends Temporal>
             //   handled like "regular" empty (same as pre-2.12)
             return _fromEmptyString(p, ctxt, string);
         }
+        // Most values use canonical ISO-8601 notation, try fast path first
+        T value = null;
+        if (tryIsoChars && _canParseIsoChars()) {
+            value = _fromChars(ctxt, string.toCharArray(), 0, string.length());
+            if (value != null) {
+                return value;
+            }
+        }
         // only check for other parsing modes if we are using default formatter or explicitly asked to
         if (_alwaysAllowStringifiedDateTimestamps ||
                 _formatter == DateTimeFormatter.ISO_INSTANT ||
@@ -427,6 +486,10 @@ public class InstantDeserializer<T extends Temporal>
                         return _fromLong(ctxt, NumberInput.parseLong(string));
                     }
                     if (dots == 1) {
+                        final char[] ch = string.toCharArray();
+                        if (DecimalUtils.canExtractSecondsAndNanos(ch, 0, ch.length)) {
+                            return _fromDecimal(ctxt, ch, 0, ch.length);
+                        }
                         return _fromDecimal(ctxt, NumberInput.parseBigDecimal(string, false));
                     }
                 } catch (NumberFormatException e) {
@@ -448,12 +511,11 @@ public class InstantDeserializer<T extends Temporal>
             string = addInColonToOffsetIfMissing(string);
         }
 
-        T value;
         try {
             TemporalAccessor acc = _formatter.parse(string);
             value = parsedToValue.apply(acc);
-            if (shouldAdjustToContextTimezone(ctxt)) {
-                return adjust.apply(value, getZone(ctxt));
+            if ((_inputFlags(ctxt) & INPUT_ADJUST_TO_CONTEXT_TIME_ZONE) != 0) {
+                return _adjust(value, ctxt);
             }
         } catch (DateTimeException e) {
             value = _handleDateTimeException(ctxt, e, string);
@@ -461,9 +523,53 @@ public class InstantDeserializer<T extends Temporal>
         return value;
     }
 
+    @Override // @since 2.19
+    protected T _fromChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        T value = _fromIsoChars(ch, start, end);
+        if ((value != null) && ((_inputFlags(ctxt) & INPUT_ADJUST_TO_CONTEXT_TIME_ZONE) != 0)) {
+            return _adjust(value, ctxt);
+        }
+        return value;
+    }
+
+    /**
+     * Helper method for checking whether canonical ISO-8601 representations can
+     * be parsed without {@link DateTimeFormatter}: only the case if one of the
+     * default formatters is used (with default value construction).
+     */
+    private boolean _canParseIsoChars()
+    {
+        return ((parsedToValue == INSTANT_FROM) && (_formatter == DateTimeFormatter.ISO_INSTANT))
+                || ((parsedToValue == OFFSET_DATE_TIME_FROM) && (_formatter == DateTimeFormatter.ISO_OFFSET_DATE_TIME))
+                || ((parsedToValue == ZONED_DATE_TIME_FROM) && (_formatter == DateTimeFormatter.ISO_ZONED_DATE_TIME));
+    }
+
+    /**
+     * Helper method for parsing canonical ISO-8601 representations without
+     * {@link DateTimeFormatter}, if possible (see {@link #_canParseIsoChars}).
+     *
+     * @return Value parsed, if fast path applicable and successful; {@code null}
+     *    otherwise, in which case caller needs to use regular handling
+     */
+    @SuppressWarnings("unchecked")
+    private T _fromIsoChars(char[] ch, int start, int end)
+    {
+        if (_canParseIsoChars()) {
+            if (parsedToValue == INSTANT_FROM) {
+                return (T) IsoDateTimeParser.parseInstant(ch, start, end, replaceZeroOffsetAsZ);
+            }
+            if (parsedToValue == OFFSET_DATE_TIME_FROM) {
+                return (T) IsoDateTimeParser.parseOffsetDateTime(ch, start, end, replaceZeroOffsetAsZ);
+            }
+            return (T) IsoDateTimeParser.parseZonedDateTime(ch, start, end, replaceZeroOffsetAsZ);
+        }
+        return null;
+    }
+
     protected T _fromLong(DeserializationContext context, long timestamp)
     {
-        if(shouldReadTimestampsAsNanoseconds(context)){
+        if ((_inputFlags(context) & INPUT_NANOSECONDS) != 0) {
             return fromNanoseconds.apply(new FromDecimalArguments(
                     timestamp, 0, this.getZone(context)
             ));
@@ -481,6 +587,36 @@ public class InstantDeserializer<T extends Temporal>
         return fromNanoseconds.apply(args);
     }
 
+    /**
+     * Helper method for decoding floating-point number token: uses textual
+     * representation directly when possible (for textual formats where that
+     * is the exact value), and {@link BigDecimal} otherwise.
+     *
+     * @since 2.19
+     */
+    protected T _fromDecimalToken(JsonParser p, DeserializationContext ctxt) throws IOException
+    {
+        if (!p.getReadCapabilities().isEnabled(StreamReadCapability.EXACT_FLOATS)) {
+            final char[] ch = p.getTextCharacters();
+            final int offset = p.getTextOffset();
+            final int len = p.getTextLength();
+            if ((ch != null) && DecimalUtils.canExtractSecondsAndNanos(ch, offset, len)) {
+                return _fromDecimal(ctxt, ch, offset, len);
+            }
+        }
+        return _fromDecimal(ctxt, p.getDecimalValue());
+    }
+
+    // @since 2.19
+    private T _fromDecimal(DeserializationContext ctxt, char[] ch, int offset, int len)
+    {
+        return fromNanoseconds.apply(new FromDecimalArguments(
+                DecimalUtils.extractSeconds(ch, offset, len),
+                // [modules-java8#337] since 2.19, only Instant needs negative adjustment
+                DecimalUtils.extractNanos(ch, offset, len, true),
+                getZone(ctxt)));
+    }
+
     private ZoneId getZone(DeserializationContext context)
     {
         // Instants are always in UTC, so don't waste compute cycles
@@ -489,8 +625,41 @@ public class InstantDeserializer<T extends Temporal>
         if (_valueClass == Instant.class) {
             return null;
         }
-        ZoneId zoneId = context.getTimeZone().toZoneId();
-        return _normalizeZoneId ? zoneId.normalized() : zoneId;
+        return _contextZone(context).getZoneId(_normalizeZoneId);
+    }
+
+    private ContextZone _contextZone(DeserializationContext context)
+    {
+        final TimeZone tz = context.getTimeZone();
+        ContextZone zone = _contextZone;
+        if ((zone == null) || !zone.isFor(tz)) {
+            zone = ContextZone.of(tz);
+            _contextZone = zone;
+        }
+        return zone;
+    }
+
+    /**
+     * Helper method for adjusting given value to context time zone: same as calling
+     * {@link #adjust} with {@link #getZone}, except for avoiding zone rules lookups
+     * for {@link OffsetDateTime}s when context time zone has fixed offset, or
+     * value is within same offset period as the previous one.
+     */
+    @SuppressWarnings("unchecked")
+    private T _adjust(T value, DeserializationContext context)
+    {
+        if (_valueClass == Instant.class) {
+            return adjust.apply(value, null);
+        }
+        final ContextZone zone = _contextZone(context);
+        if (adjust == (BiFunction<?, ?, ?>) OFFSET_DATE_TIME_ADJUST) {
+            final OffsetDateTime d = (OffsetDateTime) value;
+            if (d.isEqual(OffsetDateTime.MIN) || d.isEqual(OffsetDateTime.MAX)) {
+                return value;
+            }
+            return (T) d.withOffsetSameInstant(zone.getOffset(d.toLocalDateTime()));
+        }
+        return adjust.apply(value, zone.getZoneId(_normalizeZoneId));
     }
 
     private String replaceZeroOffsetAsZIfNecessary(String text)
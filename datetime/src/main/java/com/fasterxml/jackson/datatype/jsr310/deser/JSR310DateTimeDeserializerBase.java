@@ -2,7 +2,6 @@ package com.fasterxml.jackson.datatype.jsr310.deser;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.ResolverStyle;
 import java.util.Locale;
 
@@ -18,6 +17,8 @@ import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeFormatterCache;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimePatternParser;
 
 @SuppressWarnings("serial")
 public abstract class JSR310DateTimeDeserializerBase<T>
@@ -38,10 +39,20 @@ public abstract class JSR310DateTimeDeserializerBase<T>
      */
     protected final Shape _shape;
 
+    /**
+     * Parser to use instead of {@link #_formatter} (when it produces a value),
+     * if formatter was built from a fixed-layout pattern that can be handled by
+     * {@link DateTimePatternParser}.
+     *
+     * @since 2.19
+     */
+    protected final DateTimePatternParser _patternParser;
+
     protected JSR310DateTimeDeserializerBase(Class<T> supportedType, DateTimeFormatter f) {
         super(supportedType);
         _formatter = f;
         _shape = null;
+        _patternParser = _patternParser(_formatter);
     }
 
     /**
@@ -51,6 +62,7 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(supportedType, leniency);
         _formatter = f;
         _shape = null;
+        _patternParser = _patternParser(_formatter);
     }
 
     /**
@@ -61,6 +73,7 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base);
         _formatter = f;
         _shape = base._shape;
+        _patternParser = _patternParser(_formatter);
     }
     
     /**
@@ -71,6 +84,7 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base, leniency);
         _formatter = base._formatter;
         _shape = base._shape;
+        _patternParser = base._patternParser;
     }
 
     /**
@@ -81,6 +95,7 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base);
         _formatter = base._formatter;
         _shape = shape;
+        _patternParser = base._patternParser;
     }
 
     /**
@@ -93,6 +108,11 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         super(base, leniency);
         _formatter = formatter;
         _shape = shape;
+        _patternParser = _patternParser(_formatter);
+    }
+
+    private static DateTimePatternParser _patternParser(DateTimeFormatter dtf) {
+        return (dtf == null) ? null : DateTimeFormatterCache.patternParser(dtf);
     }
 
     protected abstract JSR310DateTimeDeserializerBase<T> withDateFormat(DateTimeFormatter dtf);
@@ -147,28 +167,13 @@ public abstract class JSR310DateTimeDeserializerBase<T>
         if (formatOverrides.hasPattern()) {
             final String pattern = formatOverrides.getPattern();
             final Locale locale = formatOverrides.hasLocale() ? formatOverrides.getLocale() : ctxt.getLocale();
-            DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
-            if (acceptCaseInsensitiveValues(ctxt, formatOverrides)) {
-                builder.parseCaseInsensitive();
-            }
-            builder.appendPattern(pattern);
-            DateTimeFormatter df;
-            if (locale == null) {
-                df = builder.toFormatter();
-            } else {
-                df = builder.toFormatter(locale);
-            }
-
             // [#148]: allow strict parsing
-            if (!deser.isLenient()) {
-                df = df.withResolverStyle(ResolverStyle.STRICT);
-            }
-
             // [#69]: For instant serializers/deserializers we need to configure the formatter with
             //a time zone picked up from JsonFormat annotation, otherwise serialization might not work
-            if (formatOverrides.hasTimeZone()) {
-                df = df.withZone(formatOverrides.getTimeZone().toZoneId());
-            }
+            DateTimeFormatter df = DateTimeFormatterCache.formatter(pattern, locale,
+                    acceptCaseInsensitiveValues(ctxt, formatOverrides),
+                    deser.isLenient() ? ResolverStyle.SMART : ResolverStyle.STRICT,
+                    formatOverrides.hasTimeZone() ? formatOverrides.getTimeZone().toZoneId() : null);
             deser = deser.withDateFormat(df);
         }
         // [#58]: For LocalDate deserializers we need to configure the formatter with
@@ -23,7 +23,9 @@ import java.util.Arrays;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.DeserializationConfig;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.cfg.CoercionAction;
@@ -42,6 +44,30 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Input flag (see {@link #_inputFlags}) that indicates that
+     * {@link DeserializationFeature#UNWRAP_SINGLE_VALUE_ARRAYS} is enabled.
+     *
+     * @since 2.19
+     */
+    protected final static int INPUT_UNWRAP_SINGLE_VALUE_ARRAYS = 0x0001;
+
+    /**
+     * Input flag that indicates that numeric timestamps are to be read as
+     * nanoseconds (for types that support such resolution).
+     *
+     * @since 2.19
+     */
+    protected final static int INPUT_NANOSECONDS = 0x0002;
+
+    /**
+     * Input flag that indicates that values are to be adjusted to context
+     * time zone (for types that have one).
+     *
+     * @since 2.19
+     */
+    protected final static int INPUT_ADJUST_TO_CONTEXT_TIME_ZONE = 0x0004;
+
     /**
      * Flag that indicates what leniency setting is enabled for this deserializer (either
      * due {@link com.fasterxml.jackson.annotation.JsonFormat.Shape} annotation on property or class, or due to per-type
@@ -60,6 +86,14 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
      */
     protected final boolean _isLenient;
 
+    /**
+     * Input flags resolved for the {@link DeserializationConfig} last used:
+     * see {@link #_inputFlags}.
+     *
+     * @since 2.19
+     */
+    private transient volatile InputStrategy _inputStrategy;
+
     /**
      * @since 2.11
      */
@@ -98,6 +132,45 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
         return _isLenient;
     }
 
+    /**
+     * Accessor for input settings to use, as {@code INPUT_xxx} flags. Since
+     * settings only depend on deserializer configuration and
+     * {@link DeserializationConfig} (which is immutable, and same for all calls
+     * via given {@code ObjectReader}), they are only resolved (with
+     * {@link #_resolveInputFlags}) when called with different config than
+     * previous call, instead of checking features for every value.
+     *
+     * @since 2.19
+     */
+    protected final int _inputFlags(DeserializationContext ctxt)
+    {
+        final DeserializationConfig config = ctxt.getConfig();
+        if (config == null) {
+            return _resolveInputFlags(ctxt);
+        }
+        InputStrategy strategy = _inputStrategy;
+        if ((strategy == null) || (strategy.config != config)) {
+            strategy = new InputStrategy(config, _resolveInputFlags(ctxt));
+            _inputStrategy = strategy;
+        }
+        return strategy.flags;
+    }
+
+    /**
+     * Overridable method that determines input settings (as {@code INPUT_xxx}
+     * flags) to use with given context; called by {@link #_inputFlags}.
+     *
+     * @since 2.19
+     */
+    protected int _resolveInputFlags(DeserializationContext ctxt)
+    {
+        int flags = 0;
+        if (ctxt.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
+            flags |= INPUT_UNWRAP_SINGLE_VALUE_ARRAYS;
+        }
+        return flags;
+    }
+
     /**
      * Replacement for {@code isLenient()} for specific case of deserialization
      * from empty or blank String.
@@ -127,6 +200,55 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
         return null;
     }
 
+    /**
+     * Method for trying to deserialize current {@link JsonToken#VALUE_STRING} directly
+     * from parser's text buffer, without constructing a {@link String}: leading and
+     * trailing whitespace is skipped (same as {@link String#trim()}) and resulting
+     * non-empty range passed to {@link #_fromChars}.
+     *
+     * @return Value deserialized, if successful; {@code null} if caller needs to use
+     *    regular {@code String}-based handling (including error reporting)
+     *
+     * @since 2.19
+     */
+    protected T _fromTextCharacters(JsonParser p, DeserializationContext ctxt)
+        throws IOException
+    {
+        // Only use text buffer if one exists (non-JSON backends may need to create)
+        if (p.hasTextCharacters()) {
+            final char[] ch = p.getTextCharacters();
+            int start = p.getTextOffset();
+            int end = start + p.getTextLength();
+            while (start < end && ch[start] <= ' ') {
+                ++start;
+            }
+            while (end > start && ch[end - 1] <= ' ') {
+                --end;
+            }
+            if (start < end) {
+                return _fromChars(ctxt, ch, start, end);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Method called by {@link #_fromTextCharacters} to try to parse given
+     * trimmed, non-empty character range; may only return a value if
+     * it is same value that {@code String}-based handling would produce.
+     * Default implementation returns {@code null}.
+     *
+     * @return Value parsed, if successful; {@code null} if caller needs to use
+     *    regular {@code String}-based handling
+     *
+     * @since 2.19
+     */
+    protected T _fromChars(DeserializationContext ctxt, char[] ch, int start, int end)
+        throws IOException
+    {
+        return null;
+    }
+
     // Presumably all types here are Date/Time oriented ones?
     @Override
     public LogicalType logicalType() { return LogicalType.DateTime; }
@@ -238,4 +360,18 @@ abstract class JSR310DeserializerBase<T> extends StdScalarDeserializer<T>
         }
         return e;
     }
+
+    /**
+     * Input flags along with {@link DeserializationConfig} they were resolved for.
+     */
+    private final static class InputStrategy
+    {
+        final DeserializationConfig config;
+        final int flags;
+
+        InputStrategy(DeserializationConfig config, int flags) {
+            this.config = config;
+            this.flags = flags;
+        }
+    }
 }
@@ -35,6 +35,8 @@ import com.fasterxml.jackson.databind.cfg.CoercionAction;
 import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
 import com.fasterxml.jackson.databind.jsontype.TypeDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDurationParser;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 /**
  * Deserializer for all Java 8 temporal {@link java.time} types that cannot be represented
@@ -177,11 +179,13 @@ _coercedTypeDesc());
         try {
             switch (_typeSelector) {
             case TYPE_PERIOD:
-                return Period.parse(string);
+                // Parse without regex matching if possible; JDK handles the rest
+                final Period period = IsoDurationParser.parsePeriod(string);
+                return (period != null) ? period : Period.parse(string);
             case TYPE_ZONE_ID:
-                return ZoneId.of(string);
+                return ZoneIdCache.zoneId(string);
             case TYPE_ZONE_OFFSET:
-                return ZoneOffset.of(string);
+                return ZoneIdCache.zoneOffset(string);
             }
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, e, string);
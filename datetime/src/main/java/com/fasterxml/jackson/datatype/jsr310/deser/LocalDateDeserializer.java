@@ -20,17 +20,19 @@ import java.io.IOException;
 import java.time.DateTimeException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.*;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.cfg.CoercionAction;
 import com.fasterxml.jackson.databind.cfg.CoercionInputShape;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.InternPool;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalDate}s.
@@ -48,6 +50,15 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     
     public static final LocalDateDeserializer INSTANCE = new LocalDateDeserializer();
 
+    /**
+     * Shared pool of deserialized values, keyed by epoch day;
+     * used if {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES} is enabled.
+     *
+     * @since 2.19
+     */
+    private final static InternPool<LocalDate> _internedDates
+        = new InternPool<>(InternPool.DEFAULT_SIZE);
+
     /**
      * Flag set from
      * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING}
@@ -59,6 +70,13 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
      */
     protected final boolean _useTimeZoneForLenientDateParsing;
 
+    /**
+     * Flag for {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES}
+     *
+     * @since 2.19
+     */
+    protected final boolean _internValues;
+
     protected LocalDateDeserializer() {
         this(DEFAULT_FORMATTER);
     }
@@ -66,6 +84,7 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     public LocalDateDeserializer(DateTimeFormatter dtf) {
         super(LocalDate.class, dtf);
         _useTimeZoneForLenientDateParsing = DEFAULT_USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING;
+        _internValues = false;
     }
 
     /**
@@ -74,6 +93,7 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     public LocalDateDeserializer(LocalDateDeserializer base, DateTimeFormatter dtf) {
         super(base, dtf);
         _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+        _internValues = base._internValues;
     }
 
     /**
@@ -82,6 +102,7 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     protected LocalDateDeserializer(LocalDateDeserializer base, Boolean leniency) {
         super(base, leniency);
         _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+        _internValues = base._internValues;
     }
 
     /**
@@ -90,6 +111,7 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     protected LocalDateDeserializer(LocalDateDeserializer base, JsonFormat.Shape shape) {
         super(base, shape);
         _useTimeZoneForLenientDateParsing = base._useTimeZoneForLenientDateParsing;
+        _internValues = base._internValues;
     }
 
     /**
@@ -98,6 +120,7 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
     protected LocalDateDeserializer(LocalDateDeserializer base, JacksonFeatureSet<JavaTimeFeature> features) {
         super(LocalDate.class, base._formatter);
         _useTimeZoneForLenientDateParsing = features.isEnabled(JavaTimeFeature.USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING);
+        _internValues = features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES);
     }
 
     @Override
@@ -117,8 +140,9 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
      * Since 2.19
      */
     public LocalDateDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
-        if (_useTimeZoneForLenientDateParsing ==
-                features.isEnabled(JavaTimeFeature.USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING)) {
+        if ((_useTimeZoneForLenientDateParsing ==
+                features.isEnabled(JavaTimeFeature.USE_TIME_ZONE_FOR_LENIENT_DATE_PARSING))
+                && (_internValues == features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES))) {
             return this;
         }
         return new LocalDateDeserializer(this, features);
@@ -126,8 +150,22 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
 
     @Override
     public LocalDate deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        final LocalDate value = _deserialize(parser, context);
+        if (_internValues && (value != null)) {
+            return _internedDates.intern(value.toEpochDay(), value);
+        }
+        return value;
+    }
+
+    private LocalDate _deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
         if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            // Try parsing text buffer first, without constructing String (nor retrying on fallback)
+            if (parser.hasTextCharacters()) {
+                LocalDate value = _fromTextCharacters(parser, context);
+                return (value != null) ? value : _fromString(parser, context, parser.getText(), false);
+            }
             return _fromString(parser, context, parser.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -140,9 +178,9 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
             if (t == JsonToken.END_ARRAY) {
                 return null;
             }
-            if (context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)
+            if (((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)
                     && (t == JsonToken.VALUE_STRING || t==JsonToken.VALUE_EMBEDDED_OBJECT)) {
-                final LocalDate parsed = deserialize(parser, context);
+                final LocalDate parsed = _deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
                     handleMissingEndArrayForSingle(parser, context);
                 }
@@ -184,6 +222,19 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
 
     protected LocalDate _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
+    {
+        return _fromString(p, ctxt, string0, true);
+    }
+
+    /**
+     * @param tryIsoChars Whether to try parsing canonical ISO-8601 representations
+     *    without formatter: {@code false} if caller has already done so
+     *    (see {@link #_fromTextCharacters})
+     *
+     * @since 2.19
+     */
+    protected LocalDate _fromString(JsonParser p, DeserializationContext ctxt,
+            String string0, boolean tryIsoChars)  throws IOException
     {
         String string = string0.trim();
         if (string.length() == 0) {
@@ -197,6 +248,12 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
             // if we are using default formatter
             DateTimeFormatter format = _formatter;
             if (format == DEFAULT_FORMATTER) {
+                if (tryIsoChars) {
+                    LocalDate value = _fromIsoChars(ctxt, string.toCharArray(), 0, string.length());
+                    if (value != null) {
+                        return value;
+                    }
+                }
                 // JavaScript by default includes time in JSON serialized Dates (UTC/ISO instant format).
                 if (string.length() > 10 && string.charAt(10) == 'T') {
                     if (isLenient()) {
@@ -221,4 +278,45 @@ public class LocalDateDeserializer extends JSR310DateTimeDeserializerBase<LocalD
             return _handleDateTimeException(ctxt, e, string);
         }
     }
+
+    @Override // @since 2.19
+    protected LocalDate _fromChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        if (_formatter == DEFAULT_FORMATTER) {
+            return _fromIsoChars(ctxt, ch, start, end);
+        }
+        if (_patternParser != null) {
+            return _patternParser.parseLocalDate(ch, start, end);
+        }
+        return null;
+    }
+
+    /**
+     * Helper method for parsing canonical representations without formatter,
+     * including lenient handling of date/time values, same as
+     * {@link #_fromString}.
+     *
+     * @return Value parsed, if successful; {@code null} if regular handling
+     *    is needed
+     */
+    private LocalDate _fromIsoChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        final int len = end - start;
+        if (len == 10) {
+            return IsoDateTimeParser.parseLocalDate(ch, start, end);
+        }
+        if (len > 10 && ch[start + 10] == 'T' && isLenient()) {
+            if (ch[end - 1] == 'Z') {
+                if (_useTimeZoneForLenientDateParsing) {
+                    Instant instant = IsoDateTimeParser.parseInstant(ch, start, end, false);
+                    return (instant == null) ? null
+                            : instant.atZone(ctxt.getTimeZone().toZoneId()).toLocalDate();
+                }
+                --end;
+            }
+            LocalDateTime dt = IsoDateTimeParser.parseLocalDateTime(ch, start, end);
+            return (dt == null) ? null : dt.toLocalDate();
+        }
+        return null;
+    }
 }
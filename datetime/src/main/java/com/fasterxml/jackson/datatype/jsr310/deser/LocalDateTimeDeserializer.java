@@ -34,6 +34,7 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalDateTime}s.
@@ -151,6 +152,11 @@ public class LocalDateTimeDeserializer
     public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
         if (parser.hasTokenId(JsonTokenId.ID_STRING)) {
+            // Try parsing text buffer first, without constructing String (nor retrying on fallback)
+            if (parser.hasTextCharacters()) {
+                LocalDateTime value = _fromTextCharacters(parser, context);
+                return (value != null) ? value : _fromString(parser, context, parser.getText(), false);
+            }
             return _fromString(parser, context, parser.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -164,7 +170,7 @@ public class LocalDateTimeDeserializer
                 return null;
             }
             if ((t == JsonToken.VALUE_STRING || t == JsonToken.VALUE_EMBEDDED_OBJECT)
-                    && context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
+                    && ((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)) {
                 final LocalDateTime parsed = deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
                     handleMissingEndArrayForSingle(parser, context);
@@ -190,7 +196,7 @@ public class LocalDateTimeDeserializer
                         result = LocalDateTime.of(year, month, day, hour, minute, second);
                     } else {
                         int partialSecond = parser.getIntValue();
-                        if (partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(context))
+                        if (partialSecond < 1_000 && ((_inputFlags(context) & INPUT_NANOSECONDS) == 0))
                             partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                         if (parser.nextToken() != JsonToken.END_ARRAY) {
                             throw context.wrongTokenException(parser, handledType(), JsonToken.END_ARRAY,
@@ -214,6 +220,15 @@ public class LocalDateTimeDeserializer
         return _handleUnexpectedToken(context, parser, "Expected array or string.");
     }
 
+    @Override // since 2.19
+    protected int _resolveInputFlags(DeserializationContext ctxt) {
+        int flags = super._resolveInputFlags(ctxt);
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            flags |= INPUT_NANOSECONDS;
+        }
+        return flags;
+    }
+
     protected boolean shouldReadTimestampsAsNanoseconds(DeserializationContext context) {
         return (_readTimestampsAsNanosOverride != null) ? _readTimestampsAsNanosOverride :
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
@@ -221,6 +236,19 @@ public class LocalDateTimeDeserializer
 
     protected LocalDateTime _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
+    {
+        return _fromString(p, ctxt, string0, true);
+    }
+
+    /**
+     * @param tryIsoChars Whether to try parsing canonical ISO-8601 representations
+     *    without formatter: {@code false} if caller has already done so
+     *    (see {@link #_fromTextCharacters})
+     *
+     * @since 2.19
+     */
+    protected LocalDateTime _fromString(JsonParser p, DeserializationContext ctxt,
+            String string0, boolean tryIsoChars)  throws IOException
     {
         String string = string0.trim();
         if (string.length() == 0) {
@@ -233,6 +261,12 @@ public class LocalDateTimeDeserializer
             // 21-Oct-2020, tatu: Changed as per [modules-base#94] for 2.12,
             //    had bad timezone handle change from [modules-base#56]
             if (_formatter == DEFAULT_FORMATTER) {
+                if (tryIsoChars) {
+                    LocalDateTime value = _fromIsoChars(ctxt, string.toCharArray(), 0, string.length());
+                    if (value != null) {
+                        return value;
+                    }
+                }
                 // ... only allow iff lenient mode enabled since
                 // JavaScript by default includes time and zone in JSON serialized Dates (UTC/ISO instant format).
                 if (string.length() > 10 && string.charAt(10) == 'T') {
@@ -257,4 +291,40 @@ public class LocalDateTimeDeserializer
             return _handleDateTimeException(ctxt, e, string);
         }
     }
+
+    @Override // @since 2.19
+    protected LocalDateTime _fromChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        if (_formatter == DEFAULT_FORMATTER) {
+            return _fromIsoChars(ctxt, ch, start, end);
+        }
+        if (_patternParser != null) {
+            return _patternParser.parseLocalDateTime(ch, start, end);
+        }
+        return null;
+    }
+
+    /**
+     * Helper method for parsing canonical representations without formatter,
+     * including lenient handling of trailing 'Z', same as {@link #_fromString}.
+     *
+     * @return Value parsed, if successful; {@code null} if regular handling
+     *    is needed
+     */
+    private LocalDateTime _fromIsoChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        if ((end - start) > 10 && ch[end - 1] == 'Z') {
+            // strict mode fails these, leave to regular handling
+            if (!isLenient()) {
+                return null;
+            }
+            if (_useTimeZoneForLenientDateParsing) {
+                Instant instant = IsoDateTimeParser.parseInstant(ch, start, end, false);
+                return (instant == null) ? null
+                        : instant.atZone(ctxt.getTimeZone().toZoneId()).toLocalDateTime();
+            }
+            --end;
+        }
+        return IsoDateTimeParser.parseLocalDateTime(ch, start, end);
+    }
 }
@@ -18,6 +18,7 @@ package com.fasterxml.jackson.datatype.jsr310.deser;
 
 import java.io.IOException;
 import java.time.DateTimeException;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
@@ -28,6 +29,7 @@ import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.BeanProperty;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 /**
  * Deserializer for Java 8 temporal {@link LocalTime}s.
@@ -106,6 +108,11 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
     public LocalTime deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
         if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            // Try parsing text buffer first, without constructing String (nor retrying on fallback)
+            if (parser.hasTextCharacters()) {
+                LocalTime value = _fromTextCharacters(parser, context);
+                return (value != null) ? value : _fromString(parser, context, parser.getText(), false);
+            }
             return _fromString(parser, context, parser.getText());
         }
         // 30-Sep-2020, tatu: New! "Scalar from Object" (mostly for XML)
@@ -118,7 +125,7 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
             if (t == JsonToken.END_ARRAY) {
                 return null;
             }
-            if (context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)
+            if (((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)
                     && (t == JsonToken.VALUE_STRING || t==JsonToken.VALUE_EMBEDDED_OBJECT)) {
                 final LocalTime parsed = deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
@@ -143,7 +150,7 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
                         result = LocalTime.of(hour, minute, second);
                     } else {
                         int partialSecond = parser.getIntValue();
-                        if(partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(context))
+                        if(partialSecond < 1_000 && ((_inputFlags(context) & INPUT_NANOSECONDS) == 0))
                             partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                         t = parser.nextToken();
                         if (t != JsonToken.END_ARRAY) {
@@ -168,6 +175,15 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
         return _handleUnexpectedToken(context, parser, "Expected array or string.");
     }
 
+    @Override // since 2.19
+    protected int _resolveInputFlags(DeserializationContext ctxt) {
+        int flags = super._resolveInputFlags(ctxt);
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            flags |= INPUT_NANOSECONDS;
+        }
+        return flags;
+    }
+
     protected boolean shouldReadTimestampsAsNanoseconds(DeserializationContext context) {
         return (_readTimestampsAsNanosOverride != null) ? _readTimestampsAsNanosOverride :
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
@@ -175,6 +191,19 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
 
     protected LocalTime _fromString(JsonParser p, DeserializationContext ctxt,
             String string0)  throws IOException
+    {
+        return _fromString(p, ctxt, string0, true);
+    }
+
+    /**
+     * @param tryIsoChars Whether to try parsing canonical ISO-8601 representations
+     *    without formatter: {@code false} if caller has already done so
+     *    (see {@link #_fromTextCharacters})
+     *
+     * @since 2.19
+     */
+    protected LocalTime _fromString(JsonParser p, DeserializationContext ctxt,
+            String string0, boolean tryIsoChars)  throws IOException
     {
         String string = string0.trim();
         if (string.length() == 0) {
@@ -186,6 +215,12 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
         DateTimeFormatter format = _formatter;
         try {
             if (format == DEFAULT_FORMATTER) {
+                if (tryIsoChars) {
+                    LocalTime value = _fromIsoChars(string.toCharArray(), 0, string.length());
+                    if (value != null) {
+                        return value;
+                    }
+                }
                 if (string.contains("T")) {
                     return LocalTime.parse(string, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
                 }
@@ -195,4 +230,35 @@ public class LocalTimeDeserializer extends JSR310DateTimeDeserializerBase<LocalT
             return _handleDateTimeException(ctxt, e, string);
         }
     }
+
+    @Override // @since 2.19
+    protected LocalTime _fromChars(DeserializationContext ctxt, char[] ch, int start, int end)
+    {
+        if (_formatter == DEFAULT_FORMATTER) {
+            return _fromIsoChars(ch, start, end);
+        }
+        if (_patternParser != null) {
+            return _patternParser.parseLocalTime(ch, start, end);
+        }
+        return null;
+    }
+
+    /**
+     * Helper method for parsing canonical representations without formatter,
+     * including time part of date/time values, same as {@link #_fromString}.
+     *
+     * @return Value parsed, if successful; {@code null} if regular handling
+     *    is needed
+     */
+    private LocalTime _fromIsoChars(char[] ch, int start, int end)
+    {
+        LocalTime value = IsoDateTimeParser.parseLocalTime(ch, start, end);
+        if (value == null) {
+            LocalDateTime dt = IsoDateTimeParser.parseLocalDateTime(ch, start, end);
+            if (dt != null) {
+                value = dt.toLocalTime();
+            }
+        }
+        return value;
+    }
 }
@@ -9,7 +9,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 /**
  * Deserializer for Java 8 temporal {@link MonthDay}s.
@@ -78,7 +78,7 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
                 return null;
             }
             if ((t == JsonToken.VALUE_STRING || t == JsonToken.VALUE_EMBEDDED_OBJECT)
-                    && context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
+                    && ((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)) {
                 final MonthDay parsed = deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
                     handleMissingEndArrayForSingle(parser, context);
@@ -100,7 +100,7 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
                 throw context.wrongTokenException(parser, handledType(), JsonToken.END_ARRAY,
                         "Expected array to end");
             }
-            return MonthDay.of(month, day);
+            return CalendarValues.monthDay(month, day);
         }
         if (parser.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
             return (MonthDay) parser.getEmbeddedObject();
@@ -121,6 +121,10 @@ public class MonthDayDeserializer extends JSR310DateTimeDeserializerBase<MonthDa
         }
         try {
             if (_formatter == null) {
+                MonthDay value = CalendarValues.parseMonthDay(string);
+                if (value != null) {
+                    return value;
+                }
                 return MonthDay.parse(string);
             }
             return MonthDay.parse(string, _formatter);
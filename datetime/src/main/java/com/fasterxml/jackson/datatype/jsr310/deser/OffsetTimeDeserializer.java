@@ -125,7 +125,7 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
                 return null;
             }
             if ((t == JsonToken.VALUE_STRING || t == JsonToken.VALUE_EMBEDDED_OBJECT)
-                    && context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
+                    && ((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)) {
                 final OffsetTime parsed = deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
                     handleMissingEndArrayForSingle(parser, context);
@@ -154,7 +154,7 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
             second = parser.getIntValue();
             if (parser.nextToken() == JsonToken.VALUE_NUMBER_INT) {
                 partialSecond = parser.getIntValue();
-                if (partialSecond < 1_000 && !shouldReadTimestampsAsNanoseconds(context)) {
+                if (partialSecond < 1_000 && ((_inputFlags(context) & INPUT_NANOSECONDS) == 0)) {
                     partialSecond *= 1_000_000; // value is milliseconds, convert it to nanoseconds
                 }
                 parser.nextToken();
@@ -171,6 +171,15 @@ public class OffsetTimeDeserializer extends JSR310DateTimeDeserializerBase<Offse
                 "Expected string for TimeZone after numeric values");
     }
 
+    @Override // since 2.19
+    protected int _resolveInputFlags(DeserializationContext ctxt) {
+        int flags = super._resolveInputFlags(ctxt);
+        if (shouldReadTimestampsAsNanoseconds(ctxt)) {
+            flags |= INPUT_NANOSECONDS;
+        }
+        return flags;
+    }
+
     protected boolean shouldReadTimestampsAsNanoseconds(DeserializationContext context) {
         return (_readTimestampsAsNanosOverride != null) ? _readTimestampsAsNanosOverride :
             context.isEnabled(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS);
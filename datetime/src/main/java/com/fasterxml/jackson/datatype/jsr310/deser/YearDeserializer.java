@@ -26,7 +26,11 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadCapability;
 import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
+import com.fasterxml.jackson.datatype.jsr310.util.InternPool;
 
 /**
  * Deserializer for Java 8 temporal {@link Year}s.
@@ -39,6 +43,22 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
 
     public static final YearDeserializer INSTANCE = new YearDeserializer();
 
+    /**
+     * Shared pool of deserialized values, keyed by year;
+     * used if {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES} is enabled.
+     *
+     * @since 2.19
+     */
+    private final static InternPool<Year> _internedYears
+        = new InternPool<>(InternPool.DEFAULT_SIZE);
+
+    /**
+     * Flag for {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES}
+     *
+     * @since 2.19
+     */
+    protected final boolean _internValues;
+
     /**
      * NOTE: only {@code public} so that use via annotations (see [modules-java8#202])
      * is possible
@@ -49,6 +69,7 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
 
     public YearDeserializer(DateTimeFormatter formatter) {
         super(Year.class, formatter);
+        _internValues = false;
     }
 
     /**
@@ -56,6 +77,7 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
      */
     protected YearDeserializer(YearDeserializer base, Boolean leniency) {
         super(base, leniency);
+        _internValues = base._internValues;
     }
 
     /**
@@ -66,6 +88,15 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
             DateTimeFormatter formatter,
             JsonFormat.Shape shape) {
         super(base, leniency, formatter, shape);
+        _internValues = base._internValues;
+    }
+
+    /**
+     * Since 2.19
+     */
+    protected YearDeserializer(YearDeserializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, base._isLenient, base._formatter, base._shape);
+        _internValues = features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES);
     }
 
     @Override
@@ -78,8 +109,27 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
         return new YearDeserializer(this, leniency);
     }
 
+    /**
+     * Since 2.19
+     */
+    public YearDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_internValues == features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES)) {
+            return this;
+        }
+        return new YearDeserializer(this, features);
+    }
+
     @Override
     public Year deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        final Year value = _deserialize(parser, context);
+        if (_internValues && (value != null)) {
+            return _internedYears.intern(value.getValue(), value);
+        }
+        return value;
+    }
+
+    private Year _deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
         JsonToken t = parser.currentToken();
         if (t == JsonToken.VALUE_STRING) {
@@ -119,6 +169,10 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
         }
         try {
             if (_formatter == null) {
+                Year year = CalendarValues.parseYear(string);
+                if (year != null) {
+                    return year;
+                }
                 return Year.parse(string);
             }
             return Year.parse(string, _formatter);
@@ -128,6 +182,6 @@ public class YearDeserializer extends JSR310DateTimeDeserializerBase<Year>
     }
 
     protected Year _fromNumber(DeserializationContext ctxt, int value) {
-        return Year.of(value);
+        return CalendarValues.year(value);
     }
 }
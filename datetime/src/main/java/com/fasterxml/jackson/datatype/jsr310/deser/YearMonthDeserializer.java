@@ -23,9 +23,12 @@ import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
+import com.fasterxml.jackson.datatype.jsr310.util.InternPool;
 
 /**
  * Deserializer for Java 8 temporal {@link YearMonth}s.
@@ -37,20 +40,43 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Formatter used by default: content it accepts in canonical form is decoded
+     * directly (see {@link CalendarValues#parseYearMonth}).
+     */
+    private static final DateTimeFormatter DEFAULT_FORMATTER = DateTimeFormatter.ofPattern("u-MM");
+
     public static final YearMonthDeserializer INSTANCE = new YearMonthDeserializer();
 
+    /**
+     * Shared pool of deserialized values, keyed by proleptic month;
+     * used if {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES} is enabled.
+     *
+     * @since 2.19
+     */
+    private final static InternPool<YearMonth> _internedYearMonths
+        = new InternPool<>(InternPool.DEFAULT_SIZE);
+
+    /**
+     * Flag for {@link JavaTimeFeature#INTERN_DESERIALIZED_DATES}
+     *
+     * @since 2.19
+     */
+    protected final boolean _internValues;
+
     /**
      * NOTE: only {@code public} so that use via annotations (see [modules-java8#202])
      * is possible
      */
     public YearMonthDeserializer() // public since 2.12
     {
-        this(DateTimeFormatter.ofPattern("u-MM"));
+        this(DEFAULT_FORMATTER);
     }
     
     public YearMonthDeserializer(DateTimeFormatter formatter)
     {
         super(YearMonth.class, formatter);
+        _internValues = false;
     }
 
     /**
@@ -58,6 +84,7 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
      */
     protected YearMonthDeserializer(YearMonthDeserializer base, Boolean leniency) {
         super(base, leniency);
+        _internValues = base._internValues;
     }
 
     /**
@@ -68,6 +95,15 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
             DateTimeFormatter formatter,
             JsonFormat.Shape shape) {
         super(base, leniency, formatter, shape);
+        _internValues = base._internValues;
+    }
+
+    /**
+     * Since 2.19
+     */
+    protected YearMonthDeserializer(YearMonthDeserializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, base._isLenient, base._formatter, base._shape);
+        _internValues = features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES);
     }
 
     @Override
@@ -80,8 +116,27 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
         return new YearMonthDeserializer(this, leniency);
     }
 
+    /**
+     * Since 2.19
+     */
+    public YearMonthDeserializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_internValues == features.isEnabled(JavaTimeFeature.INTERN_DESERIALIZED_DATES)) {
+            return this;
+        }
+        return new YearMonthDeserializer(this, features);
+    }
+
     @Override
     public YearMonth deserialize(JsonParser parser, DeserializationContext context) throws IOException
+    {
+        final YearMonth value = _deserialize(parser, context);
+        if (_internValues && (value != null)) {
+            return _internedYearMonths.intern((value.getYear() * 12L) + value.getMonthValue() - 1, value);
+        }
+        return value;
+    }
+
+    private YearMonth _deserialize(JsonParser parser, DeserializationContext context) throws IOException
     {
         if (parser.hasToken(JsonToken.VALUE_STRING)) {
             return _fromString(parser, context, parser.getText());
@@ -97,8 +152,8 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
                 return null;
             }
             if ((t == JsonToken.VALUE_STRING || t == JsonToken.VALUE_EMBEDDED_OBJECT)
-                    && context.isEnabled(DeserializationFeature.UNWRAP_SINGLE_VALUE_ARRAYS)) {
-                final YearMonth parsed = deserialize(parser, context);
+                    && ((_inputFlags(context) & INPUT_UNWRAP_SINGLE_VALUE_ARRAYS) != 0)) {
+                final YearMonth parsed = _deserialize(parser, context);
                 if (parser.nextToken() != JsonToken.END_ARRAY) {
                     handleMissingEndArrayForSingle(parser, context);
                 }
@@ -119,7 +174,7 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
                 throw context.wrongTokenException(parser, handledType(), JsonToken.END_ARRAY,
                         "Expected array to end");
             }
-            return YearMonth.of(year, month);
+            return CalendarValues.yearMonth(year, month);
         }
         if (parser.hasToken(JsonToken.VALUE_EMBEDDED_OBJECT)) {
             return (YearMonth) parser.getEmbeddedObject();
@@ -138,6 +193,12 @@ public class YearMonthDeserializer extends JSR310DateTimeDeserializerBase<YearMo
             //   handled like "regular" empty (same as pre-2.12)
             return _fromEmptyString(p, ctxt, string);
         }
+        if (_formatter == DEFAULT_FORMATTER) {
+            YearMonth value = CalendarValues.parseYearMonth(string);
+            if (value != null) {
+                return value;
+            }
+        }
         try {
             return YearMonth.parse(string, _formatter);
         } catch (DateTimeException e) {
@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.Duration;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDurationParser;
 
 public class DurationKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,8 @@ public class DurationKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Duration deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return Duration.parse(key);
+            final Duration d = IsoDurationParser.parseDuration(key);
+            return (d != null) ? d : Duration.parse(key);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, Duration.class, e, key);
         }
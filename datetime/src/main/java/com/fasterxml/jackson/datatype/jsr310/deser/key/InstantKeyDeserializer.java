@@ -6,6 +6,7 @@ import java.time.Instant;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class InstantKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,6 +18,11 @@ public class InstantKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected Instant deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter
+        final Instant value = IsoDateTimeParser.parseInstant(key, false);
+        if (value != null) {
+            return value;
+        }
         try {
             return DateTimeFormatter.ISO_INSTANT.parse(key, Instant::from);
         } catch (DateTimeException e) {
@@ -6,9 +6,18 @@ import java.time.DateTimeException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.KeyDeserializer;
+import com.fasterxml.jackson.databind.util.LRUMap;
 
 abstract class Jsr310KeyDeserializer extends KeyDeserializer {
 
+    /**
+     * Maximum number of values cached by key deserializers constructed
+     * using {@link #withValueCache}.
+     *
+     * @since 2.19
+     */
+    private final static int MAX_CACHED_VALUES = 500;
+
     @SuppressWarnings("deprecation")
     @Override
     public final Object deserializeKey(String key, DeserializationContext ctxt)
@@ -26,6 +35,33 @@ abstract class Jsr310KeyDeserializer extends KeyDeserializer {
     protected abstract Object deserialize(String key, DeserializationContext ctxt)
         throws IOException;
 
+    /**
+     * Method for constructing key deserializer that delegates to this one, but
+     * keeps a bounded cache of deserialized values: see
+     * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#CACHE_DESERIALIZED_MAP_KEYS}.
+     *
+     * @since 2.19
+     */
+    public KeyDeserializer withValueCache() {
+        return new CachingKeyDeserializer(this);
+    }
+
+    /**
+     * Helper method for checking whether key ends with zone offset {@code Z} or
+     * {@code +hh:mm} (or zone id, which parser requires to be preceded by either):
+     * that is, not with offset of form {@code +hhmm}.
+     *
+     * @since 2.19
+     */
+    protected static boolean _hasColonOrZOffset(String key) {
+        final int len = key.length();
+        if (len < 6) {
+            return false;
+        }
+        final char c = key.charAt(len - 1);
+        return (c == 'Z') || (c == ']') || (key.charAt(len - 3) == ':');
+    }
+
     @SuppressWarnings("unchecked")
     protected <T> T _handleDateTimeException(DeserializationContext ctxt,
               Class<?> type, DateTimeException e0, String value) throws IOException
@@ -45,4 +81,38 @@ abstract class Jsr310KeyDeserializer extends KeyDeserializer {
             throw JsonMappingException.fromUnexpectedIOE(e);
         }
     }
+
+    /**
+     * Key deserializer that caches values deserialized by another one.
+     *
+     * @since 2.19
+     */
+    private final static class CachingKeyDeserializer extends KeyDeserializer
+    {
+        private final Jsr310KeyDeserializer _delegate;
+
+        private final LRUMap<String, Object> _values;
+
+        CachingKeyDeserializer(Jsr310KeyDeserializer delegate) {
+            _delegate = delegate;
+            _values = new LRUMap<>(16, MAX_CACHED_VALUES);
+        }
+
+        @Override
+        public Object deserializeKey(String key, DeserializationContext ctxt)
+            throws IOException
+        {
+            Object value = _values.get(key);
+            if (value == null) {
+                value = _delegate.deserializeKey(key, ctxt);
+                // Only cache values of keys in canonical representation: these
+                // always parse to same value, so that problem handlers (or their
+                // absence) for invalid keys need not be considered
+                if ((value != null) && key.equals(value.toString())) {
+                    _values.put(key, value);
+                }
+            }
+            return value;
+        }
+    }
 }
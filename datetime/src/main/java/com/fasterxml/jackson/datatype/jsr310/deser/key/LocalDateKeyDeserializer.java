@@ -6,6 +6,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class LocalDateKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,6 +18,11 @@ public class LocalDateKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected LocalDate deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter
+        final LocalDate value = IsoDateTimeParser.parseLocalDate(key);
+        if (value != null) {
+            return value;
+        }
         try {
             return LocalDate.parse(key, DateTimeFormatter.ISO_LOCAL_DATE);
         } catch (DateTimeException e) {
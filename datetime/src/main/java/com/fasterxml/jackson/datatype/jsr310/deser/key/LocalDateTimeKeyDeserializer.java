@@ -6,6 +6,7 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class LocalDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,6 +18,11 @@ public class LocalDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected LocalDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter
+        final LocalDateTime value = IsoDateTimeParser.parseLocalDateTime(key);
+        if (value != null) {
+            return value;
+        }
         try {
             return LocalDateTime.parse(key, DateTimeFormatter.ISO_LOCAL_DATE_TIME);
         } catch (DateTimeException e) {
@@ -6,6 +6,7 @@ import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class LocalTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,6 +18,11 @@ public class LocalTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected LocalTime deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter
+        final LocalTime value = IsoDateTimeParser.parseLocalTime(key);
+        if (value != null) {
+            return value;
+        }
         try {
             return LocalTime.parse(key, DateTimeFormatter.ISO_LOCAL_TIME);
         } catch (DateTimeException e) {
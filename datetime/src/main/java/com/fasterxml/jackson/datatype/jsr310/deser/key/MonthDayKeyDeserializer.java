@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeFormatterBuilder;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 public class MonthDayKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -29,6 +30,10 @@ public class MonthDayKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected MonthDay deserialize(String key, DeserializationContext ctxt) throws IOException {
+        MonthDay value = CalendarValues.parseMonthDay(key);
+        if (value != null) {
+            return value;
+        }
         try {
             return MonthDay.parse(key, PARSER);
         } catch (DateTimeException e) {
@@ -6,6 +6,7 @@ import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class OffsetDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,6 +18,14 @@ public class OffsetDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected OffsetDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter (but
+        // formatter does not accept offsets without colon, so leave those to it)
+        if (_hasColonOrZOffset(key)) {
+            final OffsetDateTime value = IsoDateTimeParser.parseOffsetDateTime(key, false);
+            if (value != null) {
+                return value;
+            }
+        }
         try {
             return OffsetDateTime.parse(key, DateTimeFormatter.ISO_OFFSET_DATE_TIME);
         } catch (DateTimeException e) {
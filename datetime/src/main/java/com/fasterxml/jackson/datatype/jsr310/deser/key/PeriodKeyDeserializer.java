@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.Period;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDurationParser;
 
 public class PeriodKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,8 @@ public class PeriodKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Period deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return Period.parse(key);
+            final Period period = IsoDurationParser.parsePeriod(key);
+            return (period != null) ? period : Period.parse(key);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, Period.class, e, key);
         }
@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.Year;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 public class YearKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -18,7 +19,7 @@ public class YearKeyDeserializer extends Jsr310KeyDeserializer {
     protected Year deserialize(String key, DeserializationContext ctxt) throws IOException {
 
         try {
-            return Year.of(Integer.parseInt(key));
+            return CalendarValues.year(Integer.parseInt(key));
         } catch (NumberFormatException nfe) {
             return _handleDateTimeException(ctxt, Year.class, new DateTimeException("Number format exception", nfe), key);
         } catch (DateTimeException dte) {
@@ -11,6 +11,7 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.SignStyle;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 /**
  * @since 2.10 (had a typo previously)
@@ -29,6 +30,10 @@ public class YearMonthKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected YearMonth deserialize(String key, DeserializationContext ctxt) throws IOException {
+        YearMonth value = CalendarValues.parseYearMonth(key);
+        if (value != null) {
+            return value;
+        }
         try {
             return YearMonth.parse(key, FORMATTER);
         } catch (DateTimeException e) {
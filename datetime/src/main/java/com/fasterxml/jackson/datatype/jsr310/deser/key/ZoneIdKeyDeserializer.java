@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.ZoneId;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 public class ZoneIdKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -17,7 +18,7 @@ public class ZoneIdKeyDeserializer extends Jsr310KeyDeserializer {
     @Override
     protected Object deserialize(String key, DeserializationContext ctxt) throws IOException {
         try {
-            return ZoneId.of(key);
+            return ZoneIdCache.zoneId(key);
         } catch (DateTimeException e) {
             return _handleDateTimeException(ctxt, ZoneId.class, e, key);
         }
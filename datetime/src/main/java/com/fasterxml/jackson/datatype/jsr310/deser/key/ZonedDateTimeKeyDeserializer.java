@@ -5,6 +5,7 @@ import java.time.DateTimeException;
 import java.time.ZonedDateTime;
 
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeParser;
 
 public class ZonedDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
@@ -16,6 +17,14 @@ public class ZonedDateTimeKeyDeserializer extends Jsr310KeyDeserializer {
 
     @Override
     protected ZonedDateTime deserialize(String key, DeserializationContext ctxt) throws IOException {
+        // Canonical representation can be parsed without formatter (but
+        // formatter does not accept offsets without colon, so leave those to it)
+        if (_hasColonOrZOffset(key)) {
+            final ZonedDateTime value = IsoDateTimeParser.parseZonedDateTime(key, false);
+            if (value != null) {
+                return value;
+            }
+        }
         try {
             // Not supplying a formatter allows the use of all supported formats
             return ZonedDateTime.parse(key);
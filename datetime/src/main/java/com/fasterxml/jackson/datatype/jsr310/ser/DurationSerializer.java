@@ -34,7 +34,6 @@ import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 import com.fasterxml.jackson.datatype.jsr310.util.DurationUnitConverter;
 
 import java.io.IOException;
-import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.format.DateTimeFormatter;
 
@@ -120,13 +119,14 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
     @Override
     public void serialize(Duration duration, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        final int flags = _outputFlags(provider);
+        if ((flags & OUTPUT_TIMESTAMP) != 0) {
             // 03-Aug-2022, tatu: As per [modules-java8#224] need to consider
             //     Pattern first, and only then nano-seconds/millis difference
             if (_durationUnitConverter != null) {
                 generator.writeNumber(_durationUnitConverter.convert(duration));
-            } else if (useNanoseconds(provider)) {
-                generator.writeNumber(_toNanos(duration));
+            } else if ((flags & OUTPUT_NANOSECONDS) != 0) {
+                _writeNanos(generator, duration);
             } else {
                 generator.writeNumber(duration.toMillis());
             }
@@ -138,18 +138,13 @@ public class DurationSerializer extends JSR310FormattedSerializerBase<Duration>
     // 20-Oct-2020, tatu: [modules-java8#165] Need to take care of
     //    negative values too, and without work-around values
     //    returned are wonky wrt conversions
-    private BigDecimal _toNanos(Duration duration) {
-        BigDecimal bd;
+    private void _writeNanos(JsonGenerator generator, Duration duration) throws IOException {
         if (duration.isNegative()) {
             duration = duration.abs();
-            bd = DecimalUtils.toBigDecimal(duration.getSeconds(),
-                    duration.getNano())
-                .negate();
+            DecimalUtils.writeDecimal(generator, duration.getSeconds(), duration.getNano(), true);
         } else {
-            bd = DecimalUtils.toBigDecimal(duration.getSeconds(),
-                    duration.getNano());
+            DecimalUtils.writeDecimal(generator, duration.getSeconds(), duration.getNano(), false);
         }
-        return bd;
     }
 
     @Override
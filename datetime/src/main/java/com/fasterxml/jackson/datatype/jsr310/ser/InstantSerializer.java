@@ -22,6 +22,9 @@ import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+
 /**
  * Serializer for Java 8 temporal {@link Instant}s, {@link OffsetDateTime}, and {@link ZonedDateTime}s.
  *
@@ -59,12 +62,29 @@ public class InstantSerializer extends InstantSerializerBase<Instant>
         super(base, useTimestamp, useNanoseconds, formatter);
     }
 
+    /**
+     * @since 2.19
+     */
+    protected InstantSerializer(InstantSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<Instant> withFormat(Boolean useTimestamp,
             DateTimeFormatter formatter, JsonFormat.Shape shape) {
         return new InstantSerializer(this, useTimestamp, formatter, shape);
     }
 
+    /**
+     * @since 2.19
+     */
+    public InstantSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new InstantSerializer(this, features);
+        }
+        return this;
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
         return new InstantSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
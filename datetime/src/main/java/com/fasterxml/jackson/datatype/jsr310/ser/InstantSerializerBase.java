@@ -16,11 +16,15 @@
 
 package com.fasterxml.jackson.datatype.jsr310.ser;
 
-import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE;
-
 import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoField;
 import java.time.temporal.Temporal;
+import java.util.TimeZone;
 import java.util.function.ToIntFunction;
 import java.util.function.ToLongFunction;
 
@@ -29,6 +33,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.JsonParser.NumberType;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
@@ -38,6 +43,10 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonIntegerFormatVisito
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonNumberFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.ContextZone;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
 /**
  * Base class for serializers used for {@link java.time.Instant} and
@@ -47,6 +56,15 @@ import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
 public abstract class InstantSerializerBase<T extends Temporal>
     extends JSR310FormattedSerializerBase<T>
 {
+    /**
+     * Range of epoch seconds (with margin for offsets) outside of which
+     * years are outside of what {@link #_patternWriter} can write.
+     */
+    private final static long MIN_PATTERN_SECONDS = -62135596800L - 86400L;
+    private final static long MAX_PATTERN_SECONDS = 253402300799L + 86400L;
+
+    private final static long SECONDS_PER_DAY = 86400L;
+
     private final DateTimeFormatter defaultFormat;
 
     private final ToLongFunction<T> getEpochMillis;
@@ -55,6 +73,39 @@ public abstract class InstantSerializerBase<T extends Temporal>
 
     private final ToIntFunction<T> getNanoseconds;
 
+    /**
+     * Flag that indicates whether default ISO-8601 representation may be written
+     * directly, without constructing it via {@link #formatValue}: only enabled
+     * for standard implementations since sub-classes may override formatting.
+     *
+     * @since 2.19
+     */
+    private final boolean _stdImpl;
+
+    /**
+     * Flag for {@link JavaTimeFeature#CACHE_ISO_DATE_TIME_PREFIX}
+     *
+     * @since 2.19
+     */
+    protected final boolean _cachePrefix;
+
+    /**
+     * Zone information resolved from the most recently used context
+     * {@link TimeZone}, used with {@code WRITE_DATES_WITH_CONTEXT_TIME_ZONE}.
+     *
+     * @since 2.19
+     */
+    private transient volatile ContextZone _contextZone;
+
+    /**
+     * Formatter with context time zone most recently constructed by
+     * {@link #formatValue}, reused as long as formatter and context
+     * time zone remain the same.
+     *
+     * @since 2.19
+     */
+    private transient volatile ZonedFormatter _zonedFormatter;
+
     protected InstantSerializerBase(Class<T> supportedType, ToLongFunction<T> getEpochMillis,
             ToLongFunction<T> getEpochSeconds, ToIntFunction<T> getNanoseconds,
             DateTimeFormatter defaultFormat)
@@ -66,6 +117,8 @@ public abstract class InstantSerializerBase<T extends Temporal>
         this.getEpochMillis = getEpochMillis;
         this.getEpochSeconds = getEpochSeconds;
         this.getNanoseconds = getNanoseconds;
+        _stdImpl = _isStdImpl(getClass());
+        _cachePrefix = false;
     }
 
     protected InstantSerializerBase(InstantSerializerBase<T> base,
@@ -90,6 +143,28 @@ public abstract class InstantSerializerBase<T extends Temporal>
         getEpochMillis = base.getEpochMillis;
         getEpochSeconds = base.getEpochSeconds;
         getNanoseconds = base.getNanoseconds;
+        _stdImpl = _isStdImpl(getClass());
+        _cachePrefix = base._cachePrefix;
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected InstantSerializerBase(InstantSerializerBase<T> base,
+            JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+        defaultFormat = base.defaultFormat;
+        getEpochMillis = base.getEpochMillis;
+        getEpochSeconds = base.getEpochSeconds;
+        getNanoseconds = base.getNanoseconds;
+        _stdImpl = _isStdImpl(getClass());
+        _cachePrefix = features.isEnabled(JavaTimeFeature.CACHE_ISO_DATE_TIME_PREFIX);
+    }
+
+    private static boolean _isStdImpl(Class<?> cls) {
+        return (cls == InstantSerializer.class)
+                || (cls == OffsetDateTimeSerializer.class)
+                || (cls == ZonedDateTimeSerializer.class);
     }
 
     @Override
@@ -97,23 +172,148 @@ public abstract class InstantSerializerBase<T extends Temporal>
         Boolean useTimestamp,
         DateTimeFormatter dtf, JsonFormat.Shape shape);
 
+    @Override
+    protected boolean _featuresDiffer(JacksonFeatureSet<JavaTimeFeature> features) {
+        return super._featuresDiffer(features)
+                || (_cachePrefix != features.isEnabled(JavaTimeFeature.CACHE_ISO_DATE_TIME_PREFIX));
+    }
+
     @Override
     public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
-            if (useNanoseconds(provider)) {
-                generator.writeNumber(DecimalUtils.toBigDecimal(
-                        getEpochSeconds.applyAsLong(value), getNanoseconds.applyAsInt(value)
-                ));
+        final int flags = _outputFlags(provider);
+        if ((flags & OUTPUT_TIMESTAMP) != 0) {
+            if ((flags & OUTPUT_NANOSECONDS) != 0) {
+                DecimalUtils.writeDecimal(generator,
+                        getEpochSeconds.applyAsLong(value), getNanoseconds.applyAsInt(value),
+                        false);
                 return;
             }
             generator.writeNumber(getEpochMillis.applyAsLong(value));
             return;
         }
-
+        if ((_formatter == null) && _stdImpl && _writeDefaultFormat(value, generator, provider, flags)) {
+            return;
+        }
+        if ((_patternWriter != null) && _stdImpl && _writeWithPattern(value, generator, provider, flags)) {
+            return;
+        }
         generator.writeString(formatValue(value, provider));
     }
 
+    /**
+     * Helper method for writing value using default ISO-8601 representation
+     * (same as {@link #formatValue} would produce with no explicit formatter)
+     * directly into generator, without going through {@link DateTimeFormatter}.
+     *
+     * @return True if value was written; false if not (due to non-default
+     *    format, or value outside range supported)
+     *
+     * @since 2.19
+     */
+    private boolean _writeDefaultFormat(T value, JsonGenerator g, SerializerProvider provider,
+            int flags)
+        throws IOException
+    {
+        final long secs = getEpochSeconds.applyAsLong(value);
+        final int nanos = getNanoseconds.applyAsInt(value);
+        final char[] buf = TextBuffers.charBuffer();
+        final int end;
+
+        if (defaultFormat == null) { // `Instant.toString()`
+            end = IsoDateTimeWriter.writeInstant(buf, 0, secs, nanos, _cachePrefix);
+        } else if (defaultFormat == DateTimeFormatter.ISO_OFFSET_DATE_TIME) {
+            final int offsetSecs;
+            if ((flags & OUTPUT_CONTEXT_TIME_ZONE) != 0) {
+                offsetSecs = _contextZone(provider).getOffset(secs).getTotalSeconds();
+            } else {
+                offsetSecs = value.get(ChronoField.OFFSET_SECONDS);
+            }
+            end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, secs, nanos, offsetSecs,
+                    _cachePrefix);
+        } else {
+            return false;
+        }
+        if (end < 0) {
+            return false;
+        }
+        _writeString(g, buf, end);
+        return true;
+    }
+
+    /**
+     * Helper method for writing value using {@link #_patternWriter}, to produce
+     * same output as {@link #formatValue} would with {@link #_formatter}.
+     *
+     * @return True if value was written; false if not (due to value not
+     *    having offset, or being outside range supported)
+     *
+     * @since 2.19
+     */
+    private boolean _writeWithPattern(T value, JsonGenerator g, SerializerProvider provider,
+            int flags)
+        throws IOException
+    {
+        final long secs = getEpochSeconds.applyAsLong(value);
+        if ((secs < MIN_PATTERN_SECONDS) || (secs > MAX_PATTERN_SECONDS)) {
+            return false;
+        }
+        // Formatter converts value to its zone, if it has one: either from
+        // annotation or context
+        final int offsetSecs;
+        final ZoneId zone = _formatter.getZone();
+        if (zone != null) {
+            if (zone instanceof ZoneOffset) {
+                offsetSecs = ((ZoneOffset) zone).getTotalSeconds();
+            } else {
+                offsetSecs = zone.getRules().getOffset(Instant.ofEpochSecond(secs)).getTotalSeconds();
+            }
+        } else if ((flags & OUTPUT_CONTEXT_TIME_ZONE) != 0) {
+            offsetSecs = _contextZone(provider).getOffset(secs).getTotalSeconds();
+        } else if (value instanceof Instant) { // no fields without zone; let formatter fail
+            return false;
+        } else {
+            offsetSecs = value.get(ChronoField.OFFSET_SECONDS);
+        }
+        final long localSecs = secs + offsetSecs;
+        final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(localSecs, SECONDS_PER_DAY));
+        final int secsOfDay = (int) Math.floorMod(localSecs, SECONDS_PER_DAY);
+        final char[] buf = TextBuffers.charBuffer();
+        final int end = _patternWriter.write(buf, 0,
+                date.getYear(), date.getMonthValue(), date.getDayOfMonth(),
+                secsOfDay / 3600, (secsOfDay / 60) % 60, secsOfDay % 60,
+                getNanoseconds.applyAsInt(value), offsetSecs);
+        if (end < 0) {
+            return false;
+        }
+        _writeString(g, buf, end);
+        return true;
+    }
+
+    private ContextZone _contextZone(SerializerProvider provider)
+    {
+        final TimeZone tz = provider.getTimeZone();
+        ContextZone zone = _contextZone;
+        if ((zone == null) || !zone.isFor(tz)) {
+            zone = ContextZone.of(tz);
+            _contextZone = zone;
+        }
+        return zone;
+    }
+
+    private DateTimeFormatter _withContextZone(DateTimeFormatter formatter,
+            SerializerProvider provider)
+    {
+        final TimeZone tz = provider.getTimeZone();
+        ZonedFormatter zf = _zonedFormatter;
+        if ((zf == null) || (zf.base != formatter) || !zf.zone.isFor(tz)) {
+            final ContextZone zone = _contextZone(provider);
+            zf = new ZonedFormatter(formatter, zone, formatter.withZone(zone.getZoneId()));
+            _zonedFormatter = zf;
+        }
+        return zf.zoned;
+    }
+
     // Overridden to ensure that our timestamp handling is as expected
     @Override
     protected void _acceptTimestampVisitor(JsonFormatVisitorWrapper visitor, JavaType typeHint)
@@ -152,8 +352,8 @@ public abstract class InstantSerializerBase<T extends Temporal>
             if (formatter.getZone() == null) { // timezone set if annotated on property
                 // If the user specified to use the context TimeZone explicitly, and the formatter provided doesn't contain a TZ
                 // Then we use the TZ specified in the objectMapper
-                if (provider.getConfig().hasExplicitTimeZone() && provider.isEnabled(WRITE_DATES_WITH_CONTEXT_TIME_ZONE)) {
-                    formatter = formatter.withZone(provider.getTimeZone().toZoneId());
+                if ((_outputFlags(provider) & OUTPUT_CONTEXT_TIME_ZONE) != 0) {
+                    formatter = _withContextZone(formatter, provider);
                 }
             }
             return formatter.format(value);
@@ -161,4 +361,17 @@ public abstract class InstantSerializerBase<T extends Temporal>
 
         return value.toString();
     }
+
+    private final static class ZonedFormatter
+    {
+        final DateTimeFormatter base;
+        final ContextZone zone;
+        final DateTimeFormatter zoned;
+
+        ZonedFormatter(DateTimeFormatter base, ContextZone zone, DateTimeFormatter zoned) {
+            this.base = base;
+            this.zone = zone;
+            this.zoned = zoned;
+        }
+    }
 }
@@ -16,14 +16,20 @@
 
 package com.fasterxml.jackson.datatype.jsr310.ser;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
 import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
 import java.util.List;
 import java.util.Locale;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonArrayFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatTypes;
@@ -31,6 +37,10 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimeFormatterCache;
+import com.fasterxml.jackson.datatype.jsr310.util.DateTimePatternWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
 /**
  * Base class that provides an array schema instead of scalar schema if
@@ -45,6 +55,39 @@ abstract class JSR310FormattedSerializerBase<T>
 {
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Output flag (see {@link #_outputFlags}) that indicates that value is to be
+     * written as timestamp; same as {@link #useTimestamp} returning {@code true}.
+     *
+     * @since 2.19
+     */
+    protected final static int OUTPUT_TIMESTAMP = 0x0001;
+
+    /**
+     * Output flag that indicates that timestamps are to be written with nanosecond
+     * resolution; same as {@link #useNanoseconds} returning {@code true}.
+     *
+     * @since 2.19
+     */
+    protected final static int OUTPUT_NANOSECONDS = 0x0002;
+
+    /**
+     * Output flag that indicates that zone id is to be included in textual
+     * representation, for types that have one.
+     *
+     * @since 2.19
+     */
+    protected final static int OUTPUT_ZONE_ID = 0x0004;
+
+    /**
+     * Output flag that indicates that values are to be written using context
+     * time zone: it has been explicitly set, and
+     * {@link SerializationFeature#WRITE_DATES_WITH_CONTEXT_TIME_ZONE} is enabled.
+     *
+     * @since 2.19
+     */
+    protected final static int OUTPUT_CONTEXT_TIME_ZONE = 0x0008;
+
     /**
      * Flag that indicates that serialization must be done as the
      * Java timestamp, regardless of other settings.
@@ -67,6 +110,22 @@ abstract class JSR310FormattedSerializerBase<T>
 
     protected final JsonFormat.Shape _shape;
 
+    /**
+     * Flag that indicates whether default ISO-8601 representations may be written
+     * as raw UTF-8 bytes: see {@link JavaTimeFeature#WRITE_ISO_STRINGS_AS_RAW_UTF8}.
+     *
+     * @since 2.19
+     */
+    protected final boolean _writeRawUTF8;
+
+    /**
+     * Writer to use instead of {@link #_formatter}, if formatter was built from
+     * a pattern that can be handled by {@link DateTimePatternWriter}.
+     *
+     * @since 2.19
+     */
+    protected final DateTimePatternWriter _patternWriter;
+
     /**
      * Lazily constructed {@code JavaType} representing type
      * {@code List<Integer>}.
@@ -74,6 +133,14 @@ abstract class JSR310FormattedSerializerBase<T>
      * @since 2.10
      */
     protected transient volatile JavaType _integerListType;
+
+    /**
+     * Output flags resolved for the {@link SerializationConfig} last used:
+     * see {@link #_outputFlags}.
+     *
+     * @since 2.19
+     */
+    private transient volatile OutputStrategy _outputStrategy;
     
     protected JSR310FormattedSerializerBase(Class<T> supportedType) {
         this(supportedType, null);
@@ -86,6 +153,8 @@ abstract class JSR310FormattedSerializerBase<T>
         _useNanoseconds = null;
         _shape = null;
         _formatter = formatter;
+        _writeRawUTF8 = false;
+        _patternWriter = _patternWriter(formatter);
     }
     
     protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
@@ -103,6 +172,27 @@ abstract class JSR310FormattedSerializerBase<T>
         _useNanoseconds = useNanoseconds;
         _formatter = dtf;
         _shape = shape;
+        _writeRawUTF8 = base._writeRawUTF8;
+        _patternWriter = _patternWriter(dtf);
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected JSR310FormattedSerializerBase(JSR310FormattedSerializerBase<?> base,
+            JacksonFeatureSet<JavaTimeFeature> features)
+    {
+        super(base.handledType());
+        _useTimestamp = base._useTimestamp;
+        _useNanoseconds = base._useNanoseconds;
+        _formatter = base._formatter;
+        _shape = base._shape;
+        _writeRawUTF8 = features.isEnabled(JavaTimeFeature.WRITE_ISO_STRINGS_AS_RAW_UTF8);
+        _patternWriter = base._patternWriter;
+    }
+
+    private static DateTimePatternWriter _patternWriter(DateTimeFormatter dtf) {
+        return (dtf == null) ? null : DateTimeFormatterCache.patternWriter(dtf);
     }
 
     protected abstract JSR310FormattedSerializerBase<?> withFormat(Boolean useTimestamp,
@@ -125,6 +215,16 @@ abstract class JSR310FormattedSerializerBase<T>
         return this;
     }
 
+    /**
+     * Helper method for checking whether given set of module features differs
+     * from what this instance was configured with.
+     *
+     * @since 2.19
+     */
+    protected boolean _featuresDiffer(JacksonFeatureSet<JavaTimeFeature> features) {
+        return _writeRawUTF8 != features.isEnabled(JavaTimeFeature.WRITE_ISO_STRINGS_AS_RAW_UTF8);
+    }
+
     @Override
     public JsonSerializer<?> createContextual(SerializerProvider prov,
             BeanProperty property) throws JsonMappingException
@@ -205,6 +305,38 @@ abstract class JSR310FormattedSerializerBase<T>
         return t;
     }
 
+    /**
+     * Helper method for writing textual value constructed in given buffer: either
+     * as a regular String, or, if {@link JavaTimeFeature#WRITE_ISO_STRINGS_AS_RAW_UTF8}
+     * is enabled and generator encodes as UTF-8, as raw UTF-8 bytes (provided that
+     * contents only consist of ASCII characters that never need escaping).
+     *
+     * @since 2.19
+     */
+    protected void _writeString(JsonGenerator g, char[] buf, int len) throws IOException
+    {
+        if (_writeRawUTF8 && (g instanceof UTF8JsonGenerator)
+                && (g.getCharacterEscapes() == null)) {
+            final byte[] bytes = TextBuffers.byteBuffer();
+            int i = 0;
+            for (; i < len; ++i) {
+                final char c = buf[i];
+                // only plain printable ASCII, minus quotes, backslash and slash (which
+                // may need escaping depending on generator configuration)
+                if ((c <= ' ') || (c >= 0x7F) || (c == '"') || (c == '\\') || (c == '/')
+                        || (c == '\'')) {
+                    break;
+                }
+                bytes[i] = (byte) c;
+            }
+            if (i == len) {
+                g.writeRawUTF8String(bytes, 0, len);
+                return;
+            }
+        }
+        g.writeString(buf, 0, len);
+    }
+
     /**
      * Overridable method that determines {@link SerializationFeature} that is used as
      * the global default in determining if date/time value serialized should use numeric
@@ -264,21 +396,76 @@ abstract class JSR310FormattedSerializerBase<T>
                 && provider.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
     }
 
+    /**
+     * Accessor for output settings to use, as {@code OUTPUT_xxx} flags. Since
+     * settings only depend on serializer configuration and
+     * {@link SerializationConfig} (which is immutable, and same for all calls
+     * via given {@code ObjectWriter}), they are only resolved (with
+     * {@link #_resolveOutputFlags}) when called with different config than
+     * previous call, instead of checking features for every value.
+     *
+     * @since 2.19
+     */
+    protected final int _outputFlags(SerializerProvider ctxt)
+    {
+        final SerializationConfig config = (ctxt == null) ? null : ctxt.getConfig();
+        if (config == null) {
+            return _resolveOutputFlags(ctxt);
+        }
+        OutputStrategy strategy = _outputStrategy;
+        if ((strategy == null) || (strategy.config != config)) {
+            strategy = new OutputStrategy(config, _resolveOutputFlags(ctxt));
+            _outputStrategy = strategy;
+        }
+        return strategy.flags;
+    }
+
+    /**
+     * Overridable method that determines output settings (as {@code OUTPUT_xxx}
+     * flags) to use with given provider; called by {@link #_outputFlags}.
+     *
+     * @since 2.19
+     */
+    protected int _resolveOutputFlags(SerializerProvider ctxt)
+    {
+        int flags = 0;
+        if (useTimestamp(ctxt)) {
+            flags |= OUTPUT_TIMESTAMP;
+        }
+        if (useNanoseconds(ctxt)) {
+            flags |= OUTPUT_NANOSECONDS;
+        }
+        final SerializationConfig config = (ctxt == null) ? null : ctxt.getConfig();
+        if ((config != null) && config.hasExplicitTimeZone()
+                && config.isEnabled(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)) {
+            flags |= OUTPUT_CONTEXT_TIME_ZONE;
+        }
+        return flags;
+    }
+
     // modules-java8#189: to be overridden by other formatters using this as base class
     protected DateTimeFormatter _useDateTimeFormatter(SerializerProvider prov, JsonFormat.Value format) {
-        DateTimeFormatter dtf;
         final String pattern = format.getPattern();
         final Locale locale = format.hasLocale() ? format.getLocale() : prov.getLocale();
-        if (locale == null) {
-            dtf = DateTimeFormatter.ofPattern(pattern);
-        } else {
-            dtf = DateTimeFormatter.ofPattern(pattern, locale);
-        }
         //Issue #69: For instant serializers/deserializers we need to configure the formatter with
         //a time zone picked up from JsonFormat annotation, otherwise serialization might not work
-        if (format.hasTimeZone()) {
-            dtf = dtf.withZone(format.getTimeZone().toZoneId());
-        }
+        DateTimeFormatter dtf = DateTimeFormatterCache.formatter(pattern, locale, false,
+                ResolverStyle.SMART,
+                format.hasTimeZone() ? format.getTimeZone().toZoneId() : null);
         return dtf;
     }
+
+    /**
+     * Output flags along with {@link SerializationConfig} they were resolved for.
+     */
+    private final static class OutputStrategy
+    {
+        final SerializationConfig config;
+        final int flags;
+
+        OutputStrategy(SerializationConfig config, int flags) {
+            this.config = config;
+            this.flags = flags;
+        }
+    }
 }
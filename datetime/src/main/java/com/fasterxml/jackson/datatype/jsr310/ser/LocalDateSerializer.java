@@ -22,13 +22,19 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.*;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.SerializedStringCache;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
 /**
  * Serializer for Java 8 temporal {@link LocalDate}s.
@@ -42,17 +48,44 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
 
     public static final LocalDateSerializer INSTANCE = new LocalDateSerializer();
 
+    /**
+     * Shared cache of default textual representations, keyed by epoch day;
+     * used if {@link JavaTimeFeature#CACHE_DATE_STRINGS} is enabled.
+     *
+     * @since 2.19
+     */
+    private final static SerializedStringCache _dateStrings
+        = new SerializedStringCache(SerializedStringCache.DEFAULT_SIZE);
+
+    /**
+     * Flag for {@link JavaTimeFeature#CACHE_DATE_STRINGS}
+     *
+     * @since 2.19
+     */
+    protected final boolean _cacheStrings;
+
     protected LocalDateSerializer() {
         super(LocalDate.class);
+        _cacheStrings = false;
     }
 
     protected LocalDateSerializer(LocalDateSerializer base,
                                   Boolean useTimestamp, DateTimeFormatter dtf, JsonFormat.Shape shape) {
         super(base, useTimestamp, dtf, shape);
+        _cacheStrings = base._cacheStrings;
     }
 
     public LocalDateSerializer(DateTimeFormatter formatter) {
         super(LocalDate.class, formatter);
+        _cacheStrings = false;
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected LocalDateSerializer(LocalDateSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+        _cacheStrings = features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS);
     }
 
     @Override
@@ -60,10 +93,26 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
         return new LocalDateSerializer(this, useTimestamp, dtf, shape);
     }
 
+    @Override
+    protected boolean _featuresDiffer(JacksonFeatureSet<JavaTimeFeature> features) {
+        return super._featuresDiffer(features)
+                || (_cacheStrings != features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS));
+    }
+
+    /**
+     * @since 2.19
+     */
+    public LocalDateSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new LocalDateSerializer(this, features);
+        }
+        return this;
+    }
+
     @Override
     public void serialize(LocalDate date, JsonGenerator g, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             if (_shape == JsonFormat.Shape.NUMBER_INT) {
                 g.writeNumber(date.toEpochDay());
             } else {
@@ -72,7 +121,7 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
                 g.writeEndArray();
             }
         } else {
-            g.writeString((_formatter == null) ? date.toString() : date.format(_formatter));
+            _serializeAsString(date, g);
         }
     }
 
@@ -89,11 +138,38 @@ public class LocalDateSerializer extends JSR310FormattedSerializerBase<LocalDate
         } else if (shape == JsonToken.VALUE_NUMBER_INT) {
             g.writeNumber(value.toEpochDay());
         } else {
-            g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    /**
+     * @since 2.19
+     */
+    private void _serializeAsString(LocalDate value, JsonGenerator g) throws IOException
+    {
+        // Default ISO-8601 representation can be written directly, without formatter
+        if ((_formatter == null) || (_formatter == DateTimeFormatter.ISO_LOCAL_DATE)) {
+            if (_cacheStrings) {
+                final long epochDay = value.toEpochDay();
+                SerializableString str = _dateStrings.find(epochDay);
+                if (str == null) {
+                    str = _dateStrings.add(epochDay, value.toString());
+                }
+                g.writeString(str);
+                return;
+            }
+            final char[] buf = TextBuffers.charBuffer();
+            final int end = IsoDateTimeWriter.writeLocalDate(buf, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            if (end > 0) {
+                _writeString(g, buf, end);
+                return;
+            }
+        }
+        g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+    }
+
     protected void _serializeAsArrayContents(LocalDate value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
@@ -25,8 +25,12 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
 /**
  * Serializer for Java 8 temporal {@link LocalDateTime}s.
@@ -53,11 +57,28 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
         super(base, useTimestamp, useNanoseconds, f, null);
     }
 
+    /**
+     * @since 2.19
+     */
+    protected LocalDateTimeSerializer(LocalDateTimeSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<LocalDateTime> withFormat(Boolean useTimestamp, DateTimeFormatter f, JsonFormat.Shape shape) {
         return new LocalDateTimeSerializer(this, useTimestamp, _useNanoseconds, f);
     }
 
+    /**
+     * @since 2.19
+     */
+    public LocalDateTimeSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new LocalDateTimeSerializer(this, features);
+        }
+        return this;
+    }
+
     protected DateTimeFormatter _defaultFormatter() {
         return DateTimeFormatter.ISO_LOCAL_DATE_TIME;
     }
@@ -66,16 +87,12 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
     public void serialize(LocalDateTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             g.writeStartArray();
             _serializeAsArrayContents(value, g, provider);
             g.writeEndArray();
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
     }
 
@@ -89,15 +106,43 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
         if ((typeIdDef != null) && typeIdDef.valueShape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    /**
+     * @since 2.19
+     */
+    private void _serializeAsString(LocalDateTime value, JsonGenerator g) throws IOException
+    {
+        DateTimeFormatter dtf = _formatter;
+        if (dtf == null) {
+            dtf = _defaultFormatter();
+        }
+        // Default ISO-8601 representation can be written directly, without formatter
+        if (dtf == DateTimeFormatter.ISO_LOCAL_DATE_TIME) {
+            final char[] buf = TextBuffers.charBuffer();
+            final int end = IsoDateTimeWriter.writeLocalDateTime(buf, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                    value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+            if (end > 0) {
+                _writeString(g, buf, end);
+                return;
+            }
+        } else if ((_patternWriter != null) && !_patternWriter.usesOffset()) {
+            final char[] buf = TextBuffers.charBuffer();
+            final int end = _patternWriter.write(buf, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                    value.getHour(), value.getMinute(), value.getSecond(), value.getNano(), 0);
+            if (end >= 0) {
+                _writeString(g, buf, end);
+                return;
+            }
+        }
+        g.writeString(value.format(dtf));
+    }
+
     private final void _serializeAsArrayContents(LocalDateTime value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
@@ -111,7 +156,7 @@ public class LocalDateTimeSerializer extends JSR310FormattedSerializerBase<Local
         if ((secs > 0) || (nanos > 0)) {
             g.writeNumber(secs);
             if (nanos > 0) {
-                if (useNanoseconds(provider)) {
+                if ((_outputFlags(provider) & OUTPUT_NANOSECONDS) != 0) {
                     g.writeNumber(nanos);
                 } else {
                     g.writeNumber(value.get(ChronoField.MILLI_OF_SECOND));
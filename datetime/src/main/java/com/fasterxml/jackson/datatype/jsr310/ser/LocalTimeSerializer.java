@@ -25,6 +25,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -32,6 +33,9 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 /**
  * Serializer for Java 8 temporal {@link LocalTime}s.
  *
@@ -60,11 +64,28 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
         super(base, useTimestamp, useNanoseconds, formatter, null);
     }
 
+    /**
+     * @since 2.19
+     */
+    protected LocalTimeSerializer(LocalTimeSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<LocalTime> withFormat(Boolean useTimestamp, DateTimeFormatter dtf, JsonFormat.Shape shape) {
         return new LocalTimeSerializer(this, useTimestamp, dtf);
     }
 
+    /**
+     * @since 2.19
+     */
+    public LocalTimeSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new LocalTimeSerializer(this, features);
+        }
+        return this;
+    }
+
     // since 2.7: TODO in 2.8; change to use per-type defaulting
     protected DateTimeFormatter _defaultFormatter() {
         return DateTimeFormatter.ISO_LOCAL_TIME;
@@ -74,16 +95,12 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
     public void serialize(LocalTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             g.writeStartArray();
             _serializeAsArrayContents(value, g, provider);
             g.writeEndArray();
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
     }
 
@@ -98,15 +115,33 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
                 && typeIdDef.valueShape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
         } else {
-            DateTimeFormatter dtf = _formatter;
-            if (dtf == null) {
-                dtf = _defaultFormatter();
-            }
-            g.writeString(value.format(dtf));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
 
+    /**
+     * @since 2.19
+     */
+    private void _serializeAsString(LocalTime value, JsonGenerator g) throws IOException
+    {
+        DateTimeFormatter dtf = _formatter;
+        if (dtf == null) {
+            dtf = _defaultFormatter();
+        }
+        // Default ISO-8601 representation can be written directly, without formatter
+        if (dtf == DateTimeFormatter.ISO_LOCAL_TIME) {
+            final char[] buf = TextBuffers.charBuffer();
+            final int end = IsoDateTimeWriter.writeLocalTime(buf, 0,
+                    value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+            if (end > 0) {
+                _writeString(g, buf, end);
+                return;
+            }
+        }
+        g.writeString(value.format(dtf));
+    }
+
     private final void _serializeAsArrayContents(LocalTime value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
@@ -118,7 +153,7 @@ public class LocalTimeSerializer extends JSR310FormattedSerializerBase<LocalTime
         {
             g.writeNumber(secs);
             if (nanos > 0) {
-                if (useNanoseconds(provider)) {
+                if ((_outputFlags(provider) & OUTPUT_NANOSECONDS) != 0) {
                     g.writeNumber(nanos);
                 } else {
                     g.writeNumber(value.get(ChronoField.MILLI_OF_SECOND));
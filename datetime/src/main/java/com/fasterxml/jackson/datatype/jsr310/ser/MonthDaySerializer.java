@@ -24,10 +24,12 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.type.WritableTypeId;
 
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 /**
  * Serializer for Java 8 temporal {@link MonthDay}s.
@@ -70,7 +72,7 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
             _serializeAsArrayContents(value, g, provider);
             g.writeEndArray();
         } else {
-            g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+            _serializeAsString(value, g);
         }
     }
 
@@ -85,11 +87,23 @@ public class MonthDaySerializer extends JSR310FormattedSerializerBase<MonthDay>
                 && typeIdDef.valueShape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
         } else {
-            g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
     
+    /**
+     * @since 2.19
+     */
+    private void _serializeAsString(MonthDay value, JsonGenerator g) throws IOException
+    {
+        if (_formatter == null) {
+            g.writeString(CalendarValues.serializedMonthDay(value));
+            return;
+        }
+        g.writeString(value.format(_formatter));
+    }
+
     protected void _serializeAsArrayContents(MonthDay value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
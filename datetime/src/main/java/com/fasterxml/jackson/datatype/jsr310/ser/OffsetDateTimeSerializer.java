@@ -4,6 +4,9 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+
 public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTime>
 {
     private static final long serialVersionUID = 1L;
@@ -35,6 +38,13 @@ public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTi
         super(base, useTimestamp, base._useNanoseconds, formatter, shape);
     }
 
+    /**
+     * @since 2.19
+     */
+    protected OffsetDateTimeSerializer(OffsetDateTimeSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFormat(Boolean useTimestamp,
         DateTimeFormatter formatter, JsonFormat.Shape shape)
@@ -42,6 +52,16 @@ public class OffsetDateTimeSerializer extends InstantSerializerBase<OffsetDateTi
         return new OffsetDateTimeSerializer(this, useTimestamp, formatter, shape);
     }
 
+    /**
+     * @since 2.19
+     */
+    public OffsetDateTimeSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new OffsetDateTimeSerializer(this, features);
+        }
+        return this;
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFeatures(Boolean writeZoneId, Boolean writeNanoseconds) {
         return new OffsetDateTimeSerializer(this, _useTimestamp, writeNanoseconds, _formatter);
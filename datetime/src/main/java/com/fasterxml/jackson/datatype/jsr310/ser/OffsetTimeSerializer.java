@@ -62,7 +62,7 @@ public class OffsetTimeSerializer extends JSR310FormattedSerializerBase<OffsetTi
     @Override
     public void serialize(OffsetTime time, JsonGenerator g, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             g.writeStartArray();
             _serializeAsArrayContents(time, g, provider);
             g.writeEndArray();
@@ -99,7 +99,7 @@ public class OffsetTimeSerializer extends JSR310FormattedSerializerBase<OffsetTi
         if ((secs > 0) || (nanos > 0)) {
             g.writeNumber(secs);
             if (nanos > 0) {
-                if(useNanoseconds(provider)) {
+                if ((_outputFlags(provider) & OUTPUT_NANOSECONDS) != 0) {
                     g.writeNumber(nanos);
                 } else {
                     g.writeNumber(value.get(ChronoField.MILLI_OF_SECOND));
@@ -22,8 +22,10 @@ import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -31,6 +33,8 @@ import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrappe
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonStringFormatVisitor;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonValueFormat;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 /**
  * Serializer for Java 8 temporal {@link YearMonth}s.
@@ -44,17 +48,34 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
 
     public static final YearMonthSerializer INSTANCE = new YearMonthSerializer();
 
+    /**
+     * Flag for {@link JavaTimeFeature#CACHE_DATE_STRINGS}
+     *
+     * @since 2.19
+     */
+    protected final boolean _cacheStrings;
+
     protected YearMonthSerializer() { // was private before 2.12
         this(null);
     }
 
     public YearMonthSerializer(DateTimeFormatter formatter) {
         super(YearMonth.class, formatter);
+        _cacheStrings = false;
     }
 
     private YearMonthSerializer(YearMonthSerializer base, Boolean useTimestamp,
             DateTimeFormatter formatter) {
         super(base, useTimestamp, formatter, null);
+        _cacheStrings = base._cacheStrings;
+    }
+
+    /**
+     * @since 2.19
+     */
+    protected YearMonthSerializer(YearMonthSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+        _cacheStrings = features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS);
     }
 
     @Override
@@ -63,16 +84,32 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
         return new YearMonthSerializer(this, useTimestamp, formatter);
     }
 
+    @Override
+    protected boolean _featuresDiffer(JacksonFeatureSet<JavaTimeFeature> features) {
+        return super._featuresDiffer(features)
+                || (_cacheStrings != features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS));
+    }
+
+    /**
+     * @since 2.19
+     */
+    public YearMonthSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new YearMonthSerializer(this, features);
+        }
+        return this;
+    }
+
     @Override
     public void serialize(YearMonth value, JsonGenerator g, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             g.writeStartArray();
             _serializeAsArrayContents(value, g, provider);
             g.writeEndArray();
             return;
         }
-        g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+        _serializeAsString(value, g);
     }
 
     @Override
@@ -86,11 +123,30 @@ public class YearMonthSerializer extends JSR310FormattedSerializerBase<YearMonth
                 && typeIdDef.valueShape == JsonToken.START_ARRAY) {
             _serializeAsArrayContents(value, g, provider);
         } else {
-            g.writeString((_formatter == null) ? value.toString() : value.format(_formatter));
+            _serializeAsString(value, g);
         }
         typeSer.writeTypeSuffix(g, typeIdDef);
     }
     
+    /**
+     * @since 2.19
+     */
+    private void _serializeAsString(YearMonth value, JsonGenerator g) throws IOException
+    {
+        if (_formatter == null) {
+            if (_cacheStrings) {
+                SerializableString str = CalendarValues.serializedYearMonth(value);
+                if (str != null) {
+                    g.writeString(str);
+                    return;
+                }
+            }
+            g.writeString(value.toString());
+            return;
+        }
+        g.writeString(value.format(_formatter));
+    }
+
     protected void _serializeAsArrayContents(YearMonth value, JsonGenerator g,
             SerializerProvider provider) throws IOException
     {
@@ -21,12 +21,14 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonFormatVisitorWrapper;
 import com.fasterxml.jackson.databind.jsonFormatVisitors.JsonIntegerFormatVisitor;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
 
 import java.io.IOException;
 import java.time.Year;
@@ -64,11 +66,17 @@ public class YearSerializer extends JSR310FormattedSerializerBase<Year>
     @Override
     public void serialize(Year year, JsonGenerator generator, SerializerProvider provider) throws IOException
     {
-        if (useTimestamp(provider)) {
+        if ((_outputFlags(provider) & OUTPUT_TIMESTAMP) != 0) {
             generator.writeNumber(year.getValue());
+        } else if (_formatter == null) {
+            SerializableString str = CalendarValues.serializedYear(year);
+            if (str != null) {
+                generator.writeString(str);
+            } else {
+                generator.writeString(year.toString());
+            }
         } else {
-            String str = (_formatter == null) ? year.toString() : year.format(_formatter);
-            generator.writeString(str);
+            generator.writeString(year.format(_formatter));
         }
     }
 
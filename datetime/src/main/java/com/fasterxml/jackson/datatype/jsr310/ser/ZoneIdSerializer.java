@@ -9,6 +9,7 @@ import com.fasterxml.jackson.core.type.WritableTypeId;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializerBase;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 // @since 2.10.2
 public class ZoneIdSerializer extends ToStringSerializerBase
@@ -17,6 +18,13 @@ public class ZoneIdSerializer extends ToStringSerializerBase
 
     public ZoneIdSerializer() { super(ZoneId.class); }
 
+    @Override // since 2.19
+    public void serialize(Object value, JsonGenerator g, SerializerProvider provider)
+        throws IOException
+    {
+        g.writeString(ZoneIdCache.serializedZoneId((ZoneId) value));
+    }
+
     @Override
     public void serializeWithType(Object value, JsonGenerator g,
             SerializerProvider provider, TypeSerializer typeSer) throws IOException
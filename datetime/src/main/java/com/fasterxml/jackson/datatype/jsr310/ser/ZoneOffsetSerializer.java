@@ -0,0 +1,37 @@
+package com.fasterxml.jackson.datatype.jsr310.ser;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializerBase;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
+
+/**
+ * Serializer for {@link ZoneOffset}s: output is same as with
+ * {@link com.fasterxml.jackson.databind.ser.std.ToStringSerializer}, but
+ * reusing cached textual representations.
+ *
+ * @since 2.19
+ */
+public class ZoneOffsetSerializer extends ToStringSerializerBase
+{
+    private static final long serialVersionUID = 1L;
+
+    public static final ZoneOffsetSerializer INSTANCE = new ZoneOffsetSerializer();
+
+    public ZoneOffsetSerializer() { super(ZoneOffset.class); }
+
+    @Override
+    public void serialize(Object value, JsonGenerator g, SerializerProvider provider)
+        throws IOException
+    {
+        g.writeString(ZoneIdCache.serializedZoneId((ZoneOffset) value));
+    }
+
+    @Override
+    public String valueToString(Object value) {
+        return value.toString();
+    }
+}
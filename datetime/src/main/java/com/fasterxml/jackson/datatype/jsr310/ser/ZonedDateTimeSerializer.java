@@ -2,13 +2,19 @@ package com.fasterxml.jackson.datatype.jsr310.ser;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import java.io.IOException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
+import com.fasterxml.jackson.datatype.jsr310.util.ZoneIdCache;
 
 public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime> {
     private static final long serialVersionUID = 1L;
@@ -58,6 +64,14 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
         _writeZoneId = writeZoneId;
     }
 
+    /**
+     * @since 2.19
+     */
+    protected ZonedDateTimeSerializer(ZonedDateTimeSerializer base, JacksonFeatureSet<JavaTimeFeature> features) {
+        super(base, features);
+        _writeZoneId = base._writeZoneId;
+    }
+
     @Override
     protected JSR310FormattedSerializerBase<?> withFormat(
         Boolean useTimestamp,
@@ -67,6 +81,16 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
             shape, _writeZoneId);
     }
 
+    /**
+     * @since 2.19
+     */
+    public ZonedDateTimeSerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        if (_featuresDiffer(features)) {
+            return new ZonedDateTimeSerializer(this, features);
+        }
+        return this;
+    }
+
     @Override
     @Deprecated
     protected JSR310FormattedSerializerBase<?> withFeatures(Boolean writeZoneId) {
@@ -82,14 +106,22 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
     public void serialize(ZonedDateTime value, JsonGenerator g, SerializerProvider provider)
         throws IOException
     {
-        if (!useTimestamp(provider)) {
+        final int flags = _outputFlags(provider);
+        if ((flags & OUTPUT_TIMESTAMP) == 0) {
             // [modules-java8#333]: `@JsonFormat` with pattern should override
             //   `SerializationFeature.WRITE_DATES_WITH_ZONE_ID`
             if ((_formatter != null) && (_shape == JsonFormat.Shape.STRING)) {
-                ; // use default handling
-            } else if (shouldWriteWithZoneId(provider)) {
+                // zone id suffix is only appended by `formatValue()`, so pattern
+                // writer used by default handling must be bypassed
+                if (Boolean.TRUE.equals(_writeZoneId)) {
+                    g.writeString(formatValue(value, provider));
+                    return;
+                }
+            } else if ((flags & OUTPUT_ZONE_ID) != 0) {
                 // write with zone
-                g.writeString(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+                if (!_writeWithZoneId(value, g)) {
+                    g.writeString(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+                }
                 return;
             }
         }
@@ -104,12 +136,45 @@ public class ZonedDateTimeSerializer extends InstantSerializerBase<ZonedDateTime
         if (_formatter != null && _shape == JsonFormat.Shape.STRING) {
             // Why not `if (shouldWriteWithZoneId(provider))` ?
             if (Boolean.TRUE.equals(_writeZoneId)) {
-                formatted += "[" + value.getZone().getId() + "]";
+                formatted += ZoneIdCache.zoneIdSuffix(value.getZone());
             }
         }
         return formatted;
     }
 
+    /**
+     * Helper method for writing value the way {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}
+     * would format it, but directly without intermediate String.
+     *
+     * @return True if value was written; false if value is outside range supported
+     *
+     * @since 2.19
+     */
+    private boolean _writeWithZoneId(ZonedDateTime value, JsonGenerator g) throws IOException
+    {
+        final char[] buf = TextBuffers.charBuffer();
+        int end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, value.toEpochSecond(), value.getNano(),
+                value.getOffset().getTotalSeconds(), _cachePrefix);
+        // Zone id only included for region-based zones, not offsets
+        if ((end > 0) && !(value.getZone() instanceof ZoneOffset)) {
+            end = IsoDateTimeWriter.writeZoneId(buf, end, value.getZone().getId());
+        }
+        if (end < 0) {
+            return false;
+        }
+        _writeString(g, buf, end);
+        return true;
+    }
+
+    @Override // since 2.19
+    protected int _resolveOutputFlags(SerializerProvider ctxt) {
+        int flags = super._resolveOutputFlags(ctxt);
+        if ((ctxt != null) && shouldWriteWithZoneId(ctxt)) {
+            flags |= OUTPUT_ZONE_ID;
+        }
+        return flags;
+    }
+
     /**
      * @since 2.8
      */
@@ -0,0 +1,71 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import java.io.IOException;
+import java.time.Instant;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
+
+/**
+ * Key serializer for {@link Instant}s: writes keys same as {@code Instant.toString()}
+ * would, but without formatter; or, if enabled with
+ * {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES},
+ * as timestamps.
+ *
+ * @since 2.19
+ */
+public class InstantKeySerializer extends JsonSerializer<Instant>
+{
+    public static final InstantKeySerializer INSTANCE = new InstantKeySerializer(false);
+
+    /**
+     * Flag for {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES}
+     */
+    protected final boolean _timestampKeys;
+
+    /**
+     * Output flags resolved for the {@link com.fasterxml.jackson.databind.SerializationConfig}
+     * last used, to avoid checking features for every key.
+     */
+    private final KeyOutputFlags _outputFlags = new KeyOutputFlags();
+
+    protected InstantKeySerializer(boolean timestampKeys) {
+        _timestampKeys = timestampKeys;
+    }
+
+    public InstantKeySerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean timestampKeys = features.isEnabled(JavaTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES);
+        return (timestampKeys == _timestampKeys) ? this : new InstantKeySerializer(timestampKeys);
+    }
+
+    @Override
+    public void serialize(Instant value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException
+    {
+        if (_timestampKeys) {
+            final int flags = _outputFlags.flags(serializers);
+            if ((flags & KeyOutputFlags.OUTPUT_TIMESTAMP) != 0) {
+                _writeTimestampKey(value, gen, flags);
+                return;
+            }
+        }
+        final char[] buf = TextBuffers.charBuffer();
+        final int end = IsoDateTimeWriter.writeInstant(buf, 0, value.getEpochSecond(), value.getNano());
+        gen.writeFieldName((end > 0) ? new String(buf, 0, end) : value.toString());
+    }
+
+    private static void _writeTimestampKey(Instant value, JsonGenerator gen, int flags)
+        throws IOException
+    {
+        if ((flags & KeyOutputFlags.OUTPUT_NANOSECONDS) != 0) {
+            gen.writeFieldName(TimestampKeys.decimalKey(value.getEpochSecond(), value.getNano()));
+        } else {
+            gen.writeFieldName(String.valueOf(value.toEpochMilli()));
+        }
+    }
+}
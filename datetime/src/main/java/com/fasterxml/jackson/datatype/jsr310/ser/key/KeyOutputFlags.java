@@ -0,0 +1,60 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Helper for resolving {@link SerializationFeature}s that affect date/time keys,
+ * retaining flags for the {@link SerializationConfig} last used to avoid
+ * checking features for every key. Each key serializer instance has its own.
+ *
+ * @since 2.19
+ */
+final class KeyOutputFlags
+{
+    final static int OUTPUT_ZONE_ID = 0x0001;
+    final static int OUTPUT_TIMESTAMP = 0x0002;
+    final static int OUTPUT_NANOSECONDS = 0x0004;
+
+    private volatile OutputStrategy _outputStrategy;
+
+    /**
+     * @return Combination of {@code OUTPUT_xxx} flags enabled for the
+     *    configuration of given provider
+     */
+    int flags(SerializerProvider serializers) {
+        final SerializationConfig config = serializers.getConfig();
+        OutputStrategy strategy = _outputStrategy;
+        if ((strategy == null) || (strategy.config != config)) {
+            int flags = 0;
+            if (serializers.isEnabled(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)) {
+                flags |= OUTPUT_ZONE_ID;
+            }
+            if (serializers.isEnabled(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)) {
+                flags |= OUTPUT_TIMESTAMP;
+            }
+            if (serializers.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)) {
+                flags |= OUTPUT_NANOSECONDS;
+            }
+            // Can not cache without config to compare against
+            if (config == null) {
+                return flags;
+            }
+            strategy = new OutputStrategy(config, flags);
+            _outputStrategy = strategy;
+        }
+        return strategy.flags;
+    }
+
+    private final static class OutputStrategy
+    {
+        final SerializationConfig config;
+        final int flags;
+
+        OutputStrategy(SerializationConfig config, int flags) {
+            this.config = config;
+            this.flags = flags;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import java.io.IOException;
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.SerializedStringCache;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
+
+/**
+ * Key serializer for {@link LocalDate}s: writes keys same as {@code LocalDate.toString()}
+ * would (optionally reusing cached representations, see
+ * {@link JavaTimeFeature#CACHE_DATE_STRINGS}); or, if enabled with
+ * {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES},
+ * as epoch days.
+ *
+ * @since 2.19
+ */
+public class LocalDateKeySerializer extends JsonSerializer<LocalDate>
+{
+    public static final LocalDateKeySerializer INSTANCE = new LocalDateKeySerializer(false, false);
+
+    /**
+     * Shared cache of key representations, keyed by epoch day;
+     * used if {@link JavaTimeFeature#CACHE_DATE_STRINGS} is enabled.
+     */
+    private final static SerializedStringCache _dateStrings
+        = new SerializedStringCache(SerializedStringCache.DEFAULT_SIZE);
+
+    /**
+     * Flag for {@link JavaTimeFeature#CACHE_DATE_STRINGS}
+     */
+    protected final boolean _cacheStrings;
+
+    /**
+     * Flag for {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES}
+     */
+    protected final boolean _timestampKeys;
+
+    /**
+     * Output flags resolved for the {@link com.fasterxml.jackson.databind.SerializationConfig}
+     * last used, to avoid checking features for every key.
+     */
+    private final KeyOutputFlags _outputFlags = new KeyOutputFlags();
+
+    protected LocalDateKeySerializer(boolean cacheStrings, boolean timestampKeys) {
+        _cacheStrings = cacheStrings;
+        _timestampKeys = timestampKeys;
+    }
+
+    public LocalDateKeySerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean cacheStrings = features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS);
+        final boolean timestampKeys = features.isEnabled(JavaTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES);
+        if ((cacheStrings == _cacheStrings) && (timestampKeys == _timestampKeys)) {
+            return this;
+        }
+        return new LocalDateKeySerializer(cacheStrings, timestampKeys);
+    }
+
+    @Override
+    public void serialize(LocalDate value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException
+    {
+        if (_timestampKeys
+                && (_outputFlags.flags(serializers) & KeyOutputFlags.OUTPUT_TIMESTAMP) != 0) {
+            gen.writeFieldName(String.valueOf(value.toEpochDay()));
+            return;
+        }
+        if (_cacheStrings) {
+            final long epochDay = value.toEpochDay();
+            SerializableString str = _dateStrings.find(epochDay);
+            if (str == null) {
+                str = _dateStrings.add(epochDay, value.toString());
+            }
+            gen.writeFieldName(str);
+            return;
+        }
+        final char[] buf = TextBuffers.charBuffer();
+        final int end = IsoDateTimeWriter.writeLocalDate(buf, 0,
+                value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+        gen.writeFieldName((end > 0) ? new String(buf, 0, end) : value.toString());
+    }
+}
@@ -0,0 +1,68 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import java.io.IOException;
+import java.time.OffsetDateTime;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+
+/**
+ * Key serializer for {@link OffsetDateTime}s, only needed to support writing keys
+ * as timestamps if enabled with {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES}:
+ * otherwise keys are written using {@code toString()}, same as by the default
+ * key serializer (which, unlike {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME},
+ * omits zero seconds; so no fast path is used to retain exact output).
+ *
+ * @since 2.19
+ */
+public class OffsetDateTimeKeySerializer extends JsonSerializer<OffsetDateTime>
+{
+    public static final OffsetDateTimeKeySerializer INSTANCE = new OffsetDateTimeKeySerializer(false);
+
+    /**
+     * Flag for {@link JavaTimeFeature#WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES}
+     */
+    protected final boolean _timestampKeys;
+
+    /**
+     * Output flags resolved for the {@link com.fasterxml.jackson.databind.SerializationConfig}
+     * last used, to avoid checking features for every key.
+     */
+    private final KeyOutputFlags _outputFlags = new KeyOutputFlags();
+
+    protected OffsetDateTimeKeySerializer(boolean timestampKeys) {
+        _timestampKeys = timestampKeys;
+    }
+
+    public OffsetDateTimeKeySerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean timestampKeys = features.isEnabled(JavaTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES);
+        return (timestampKeys == _timestampKeys) ? this : new OffsetDateTimeKeySerializer(timestampKeys);
+    }
+
+    @Override
+    public void serialize(OffsetDateTime value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException
+    {
+        if (_timestampKeys) {
+            final int flags = _outputFlags.flags(serializers);
+            if ((flags & KeyOutputFlags.OUTPUT_TIMESTAMP) != 0) {
+                _writeTimestampKey(value, gen, flags);
+                return;
+            }
+        }
+        gen.writeFieldName(value.toString());
+    }
+
+    private static void _writeTimestampKey(OffsetDateTime value, JsonGenerator gen, int flags)
+        throws IOException
+    {
+        if ((flags & KeyOutputFlags.OUTPUT_NANOSECONDS) != 0) {
+            gen.writeFieldName(TimestampKeys.decimalKey(value.toEpochSecond(), value.getNano()));
+        } else {
+            gen.writeFieldName(String.valueOf(value.toInstant().toEpochMilli()));
+        }
+    }
+}
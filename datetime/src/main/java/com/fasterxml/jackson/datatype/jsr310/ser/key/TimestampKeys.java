@@ -0,0 +1,56 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
+
+/**
+ * Helper methods for constructing numeric (timestamp) representations of
+ * {@code java.time} values used as {@link java.util.Map} keys.
+ *
+ * @since 2.19
+ */
+final class TimestampKeys
+{
+    private TimestampKeys() { }
+
+    /**
+     * Method for constructing key for given epoch seconds and nanoseconds,
+     * same as {@code DecimalUtils.toBigDecimal(epochSecond, nanos).toString()}
+     * but without constructing {@link java.math.BigDecimal}.
+     */
+    static String decimalKey(long epochSecond, int nanos)
+    {
+        if (epochSecond == 0L) {
+            if (nanos == 0) {
+                return "0.0";
+            }
+            // BigDecimal uses scientific notation for these
+            if (nanos < 1000) {
+                return DecimalUtils.toBigDecimal(epochSecond, nanos).toString();
+            }
+        }
+        final char[] buf = TextBuffers.charBuffer();
+        int ix = 0;
+        long secs = epochSecond;
+        if (secs < 0L) {
+            buf[ix++] = '-';
+            secs = -secs;
+        }
+        int digits = 1;
+        for (long v = secs; v >= 10L; v /= 10L) {
+            ++digits;
+        }
+        for (int i = ix + digits; --i >= ix; ) {
+            buf[i] = (char) ('0' + (int) (secs % 10L));
+            secs /= 10L;
+        }
+        ix += digits;
+        buf[ix++] = '.';
+        for (int i = ix + 9; --i >= ix; ) {
+            buf[i] = (char) ('0' + (nanos % 10));
+            nanos /= 10;
+        }
+        ix += 9;
+        return new String(buf, 0, ix);
+    }
+}
@@ -0,0 +1,52 @@
+package com.fasterxml.jackson.datatype.jsr310.ser.key;
+
+import java.io.IOException;
+import java.time.YearMonth;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.util.JacksonFeatureSet;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.util.CalendarValues;
+
+/**
+ * Key serializer for {@link YearMonth}s: writes keys using {@code toString()},
+ * optionally reusing cached representations (see
+ * {@link JavaTimeFeature#CACHE_DATE_STRINGS}).
+ *
+ * @since 2.19
+ */
+public class YearMonthKeySerializer extends JsonSerializer<YearMonth>
+{
+    public static final YearMonthKeySerializer INSTANCE = new YearMonthKeySerializer(false);
+
+    /**
+     * Flag for {@link JavaTimeFeature#CACHE_DATE_STRINGS}
+     */
+    protected final boolean _cacheStrings;
+
+    protected YearMonthKeySerializer(boolean cacheStrings) {
+        _cacheStrings = cacheStrings;
+    }
+
+    public YearMonthKeySerializer withFeatures(JacksonFeatureSet<JavaTimeFeature> features) {
+        final boolean cacheStrings = features.isEnabled(JavaTimeFeature.CACHE_DATE_STRINGS);
+        return (cacheStrings == _cacheStrings) ? this : new YearMonthKeySerializer(cacheStrings);
+    }
+
+    @Override
+    public void serialize(YearMonth value, JsonGenerator gen, SerializerProvider serializers)
+        throws IOException
+    {
+        if (_cacheStrings) {
+            SerializableString str = CalendarValues.serializedYearMonth(value);
+            if (str != null) {
+                gen.writeFieldName(str);
+                return;
+            }
+        }
+        gen.writeFieldName(value.toString());
+    }
+}
@@ -1,20 +1,29 @@
 package com.fasterxml.jackson.datatype.jsr310.ser.key;
 
 import java.io.IOException;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
-import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.SerializerProvider;
-import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.util.IsoDateTimeWriter;
+import com.fasterxml.jackson.datatype.jsr310.util.TextBuffers;
 
 public class ZonedDateTimeKeySerializer extends JsonSerializer<ZonedDateTime> {
 
     public static final ZonedDateTimeKeySerializer INSTANCE = new ZonedDateTimeKeySerializer();
 
+    /**
+     * Output flags resolved for the {@link com.fasterxml.jackson.databind.SerializationConfig}
+     * last used, to avoid checking features for every key.
+     *
+     * @since 2.19
+     */
+    private final KeyOutputFlags _outputFlags = new KeyOutputFlags();
+
     private ZonedDateTimeKeySerializer() {
         // singleton
     }
@@ -25,25 +34,38 @@ public class ZonedDateTimeKeySerializer extends JsonSerializer<ZonedDateTime> {
         /* [modules-java8#127]: Serialization of timezone data is disabled by default, but can be
          * turned on by enabling `SerializationFeature.WRITE_DATES_WITH_ZONE_ID`
          */
-        if (serializers.isEnabled(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)) {
-            gen.writeFieldName(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
-        } else if (useTimestamps(serializers)) {
-            if (useNanos(serializers)) {
-                gen.writeFieldName(DecimalUtils.toBigDecimal(value.toEpochSecond(), value.getNano()).toString());
+        final int flags = _outputFlags.flags(serializers);
+        if ((flags & KeyOutputFlags.OUTPUT_ZONE_ID) != 0) {
+            final String key = _isoKey(value, true);
+            gen.writeFieldName((key != null) ? key : DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value));
+        } else if ((flags & KeyOutputFlags.OUTPUT_TIMESTAMP) != 0) {
+            if ((flags & KeyOutputFlags.OUTPUT_NANOSECONDS) != 0) {
+                gen.writeFieldName(TimestampKeys.decimalKey(value.toEpochSecond(), value.getNano()));
             } else {
                 gen.writeFieldName(String.valueOf(value.toInstant().toEpochMilli()));
             }
         } else {
-            gen.writeFieldName(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+            final String key = _isoKey(value, false);
+            gen.writeFieldName((key != null) ? key : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
         }
     }
 
-    private static boolean useNanos(SerializerProvider serializers) {
-        return serializers.isEnabled(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS);
-    }
-
-    private static boolean useTimestamps(SerializerProvider serializers) {
-        return serializers.isEnabled(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS);
+    /**
+     * Helper method for constructing key the way {@link DateTimeFormatter#ISO_ZONED_DATE_TIME}
+     * (if {@code withZoneId} is true) or {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+     * would format value, but without formatter.
+     *
+     * @return Key constructed; or {@code null} if value is outside range supported
+     */
+    private static String _isoKey(ZonedDateTime value, boolean withZoneId)
+    {
+        final char[] buf = TextBuffers.charBuffer();
+        int end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, value.toEpochSecond(), value.getNano(),
+                value.getOffset().getTotalSeconds());
+        // Zone id only included for region-based zones, not offsets
+        if (withZoneId && (end > 0) && !(value.getZone() instanceof ZoneOffset)) {
+            end = IsoDateTimeWriter.writeZoneId(buf, end, value.getZone().getId());
+        }
+        return (end < 0) ? null : new String(buf, 0, end);
     }
-
 }
@@ -0,0 +1,269 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Month;
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Lookup tables for {@link Year}, {@link YearMonth} and {@link MonthDay}:
+ * value types with small, closed domains (366 month-days; a few thousand
+ * year-months for years {@link #MIN_TABLE_YEAR} to {@link #MAX_TABLE_YEAR}).
+ * Tables hold shared instances and their default textual representations
+ * (as {@link SerializableString}s, to also retain encoded forms), and are
+ * filled lazily as values are used. Year-month representations are only used
+ * (and so filled) if {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#CACHE_DATE_STRINGS}
+ * is enabled.
+ *<p>
+ * Parse methods only decode canonical representations (4-digit years) with
+ * direct digit checks; for anything else they return {@code null} and caller
+ * is expected to fall back to JDK parsing. Similarly methods for textual
+ * representations return {@code null} for values outside tables.
+ *
+ * @since 2.19
+ */
+public final class CalendarValues
+{
+    /**
+     * Lowest year included in tables.
+     */
+    public final static int MIN_TABLE_YEAR = 1900;
+
+    /**
+     * Highest year included in tables.
+     */
+    public final static int MAX_TABLE_YEAR = 2199;
+
+    private final static int YEAR_COUNT = MAX_TABLE_YEAR - MIN_TABLE_YEAR + 1;
+
+    // Month-days indexed by (month-1) * 32 + day
+    private final static int MONTH_DAY_COUNT = 12 * 32;
+
+    private final static AtomicReferenceArray<Year> _years = new AtomicReferenceArray<>(YEAR_COUNT);
+
+    private final static AtomicReferenceArray<YearMonth> _yearMonths
+        = new AtomicReferenceArray<>(YEAR_COUNT * 12);
+
+    private final static AtomicReferenceArray<MonthDay> _monthDays
+        = new AtomicReferenceArray<>(MONTH_DAY_COUNT);
+
+    private final static AtomicReferenceArray<SerializableString> _yearStrings
+        = new AtomicReferenceArray<>(YEAR_COUNT);
+
+    private final static AtomicReferenceArray<SerializableString> _yearMonthStrings
+        = new AtomicReferenceArray<>(YEAR_COUNT * 12);
+
+    private final static AtomicReferenceArray<SerializableString> _monthDayStrings
+        = new AtomicReferenceArray<>(MONTH_DAY_COUNT);
+
+    private CalendarValues() { }
+
+    /*
+    /**********************************************************************
+    /* Instances
+    /**********************************************************************
+     */
+
+    /**
+     * Equivalent of {@link Year#of}, but returning shared instances for
+     * years within tables.
+     */
+    public static Year year(int year) {
+        final int ix = year - MIN_TABLE_YEAR;
+        if ((ix < 0) || (ix >= YEAR_COUNT)) {
+            return Year.of(year);
+        }
+        Year value = _years.get(ix);
+        if (value == null) {
+            value = Year.of(year);
+            _years.lazySet(ix, value);
+        }
+        return value;
+    }
+
+    /**
+     * Equivalent of {@link YearMonth#of(int, int)}, but returning shared instances for
+     * years within tables.
+     */
+    public static YearMonth yearMonth(int year, int month) {
+        final int ix = _yearMonthIndex(year, month);
+        if (ix < 0) {
+            return YearMonth.of(year, month);
+        }
+        YearMonth value = _yearMonths.get(ix);
+        if (value == null) {
+            value = YearMonth.of(year, month);
+            _yearMonths.lazySet(ix, value);
+        }
+        return value;
+    }
+
+    /**
+     * Equivalent of {@link MonthDay#of(int, int)}, but returning shared instances for
+     * valid values.
+     */
+    public static MonthDay monthDay(int month, int day) {
+        final int ix = _monthDayIndex(month, day);
+        if (ix < 0) {
+            return MonthDay.of(month, day); // to throw the usual exception
+        }
+        MonthDay value = _monthDays.get(ix);
+        if (value == null) {
+            value = MonthDay.of(month, day);
+            _monthDays.lazySet(ix, value);
+        }
+        return value;
+    }
+
+    /*
+    /**********************************************************************
+    /* Parsing
+    /**********************************************************************
+     */
+
+    /**
+     * Method for decoding 4-digit year ({@code uuuu}).
+     *
+     * @return Decoded value, if content was in supported shape; {@code null} if not
+     */
+    public static Year parseYear(String str) {
+        if (str.length() != 4) {
+            return null;
+        }
+        final int year = _digits4(str, 0);
+        return (year < 0) ? null : year(year);
+    }
+
+    /**
+     * Method for decoding year-month with 4-digit year ({@code uuuu-MM}).
+     *
+     * @return Decoded value, if content was in supported shape; {@code null} if not
+     */
+    public static YearMonth parseYearMonth(String str) {
+        if ((str.length() != 7) || (str.charAt(4) != '-')) {
+            return null;
+        }
+        final int year = _digits4(str, 0);
+        final int month = _digits2(str, 5);
+        if ((year < 0) || (month < 1) || (month > 12)) {
+            return null;
+        }
+        return yearMonth(year, month);
+    }
+
+    /**
+     * Method for decoding month-day ({@code --MM-dd}).
+     *
+     * @return Decoded value, if content was in supported shape (and valid); {@code null} if not
+     */
+    public static MonthDay parseMonthDay(String str) {
+        if ((str.length() != 7) || (str.charAt(0) != '-') || (str.charAt(1) != '-')
+                || (str.charAt(4) != '-')) {
+            return null;
+        }
+        final int month = _digits2(str, 2);
+        final int day = _digits2(str, 5);
+        if (_monthDayIndex(month, day) < 0) {
+            return null;
+        }
+        return monthDay(month, day);
+    }
+
+    /*
+    /**********************************************************************
+    /* Textual representations
+    /**********************************************************************
+     */
+
+    /**
+     * @return Default textual representation (same as {@code toString()}) of
+     *    given year if within tables; {@code null} otherwise
+     */
+    public static SerializableString serializedYear(Year value) {
+        final int ix = value.getValue() - MIN_TABLE_YEAR;
+        if ((ix < 0) || (ix >= YEAR_COUNT)) {
+            return null;
+        }
+        SerializableString str = _yearStrings.get(ix);
+        if (str == null) {
+            str = new SerializedString(value.toString());
+            _yearStrings.lazySet(ix, str);
+        }
+        return str;
+    }
+
+    /**
+     * @return Default textual representation (same as {@code toString()}) of
+     *    given year-month if within tables; {@code null} otherwise
+     */
+    public static SerializableString serializedYearMonth(YearMonth value) {
+        final int ix = _yearMonthIndex(value.getYear(), value.getMonthValue());
+        if (ix < 0) {
+            return null;
+        }
+        SerializableString str = _yearMonthStrings.get(ix);
+        if (str == null) {
+            str = new SerializedString(value.toString());
+            _yearMonthStrings.lazySet(ix, str);
+        }
+        return str;
+    }
+
+    /**
+     * @return Default textual representation (same as {@code toString()}) of
+     *    given month-day
+     */
+    public static SerializableString serializedMonthDay(MonthDay value) {
+        final int ix = _monthDayIndex(value.getMonthValue(), value.getDayOfMonth());
+        SerializableString str = _monthDayStrings.get(ix);
+        if (str == null) {
+            str = new SerializedString(value.toString());
+            _monthDayStrings.lazySet(ix, str);
+        }
+        return str;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private static int _yearMonthIndex(int year, int month) {
+        final int ix = year - MIN_TABLE_YEAR;
+        if ((ix < 0) || (ix >= YEAR_COUNT) || (month < 1) || (month > 12)) {
+            return -1;
+        }
+        return (ix * 12) + (month - 1);
+    }
+
+    private static int _monthDayIndex(int month, int day) {
+        if ((month < 1) || (month > 12) || (day < 1)
+                || (day > Month.of(month).maxLength())) {
+            return -1;
+        }
+        return ((month - 1) << 5) + day;
+    }
+
+    private static int _digits2(String str, int ix) {
+        final int d1 = str.charAt(ix) - '0';
+        final int d2 = str.charAt(ix + 1) - '0';
+        if ((d1 | d2) < 0 || (d1 > 9) || (d2 > 9)) {
+            return -1;
+        }
+        return (d1 * 10) + d2;
+    }
+
+    private static int _digits4(String str, int ix) {
+        final int hi = _digits2(str, ix);
+        final int lo = _digits2(str, ix + 2);
+        if ((hi | lo) < 0) {
+            return -1;
+        }
+        return (hi * 100) + lo;
+    }
+}
@@ -0,0 +1,186 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+/**
+ * Container for {@link ZoneId} information resolved from a context
+ * {@link TimeZone} (one configured for {@code ObjectMapper}): zone id itself,
+ * its normalized form and, for fixed-offset zones, the constant offset.
+ * Since these only depend on the {@code TimeZone}, they can be resolved once and
+ * reused for all values, instead of calling {@link TimeZone#toZoneId()} (and
+ * looking up zone rules) for each value.
+ *<p>
+ * For region-based zones (like {@code America/New_York}) instance also remembers
+ * the period between offset transitions that was last looked up, so that
+ * offsets of values within the same period (typically same DST period)
+ * can be found without zone rules lookups.
+ *<p>
+ * Instances are thread-safe; callers typically keep the most recently used
+ * instance and check whether it is still valid with {@link #isFor(TimeZone)}.
+ *
+ * @since 2.19
+ */
+public final class ContextZone
+{
+    private final TimeZone _timeZone;
+
+    /**
+     * Id of {@link #_timeZone} at the time of resolution, to detect changes
+     * (as {@link TimeZone} is mutable)
+     */
+    private final String _timeZoneId;
+
+    private final ZoneId _zoneId;
+
+    private final ZoneId _normalized;
+
+    private final ZoneOffset _fixedOffset;
+
+    private final ZoneRules _rules;
+
+    /**
+     * Offset period last looked up, if any (only used for non-fixed offsets)
+     */
+    private volatile OffsetWindow _window;
+
+    private ContextZone(TimeZone tz, ZoneId zoneId) {
+        _timeZone = tz;
+        _timeZoneId = tz.getID();
+        _zoneId = zoneId;
+        _normalized = zoneId.normalized();
+        _rules = zoneId.getRules();
+        _fixedOffset = _rules.isFixedOffset() ? _rules.getOffset(Instant.EPOCH) : null;
+    }
+
+    public static ContextZone of(TimeZone tz) {
+        return new ContextZone(tz, tz.toZoneId());
+    }
+
+    /**
+     * Method for checking whether this instance was resolved from given
+     * {@link TimeZone} (same instance, with same id).
+     */
+    public boolean isFor(TimeZone tz) {
+        return (tz == _timeZone) && _timeZoneId.equals(tz.getID());
+    }
+
+    /**
+     * @return Zone id as returned by {@link TimeZone#toZoneId()}
+     */
+    public ZoneId getZoneId() {
+        return _zoneId;
+    }
+
+    /**
+     * @return Zone id as returned by {@link ZoneId#normalized()} for
+     *    {@link #getZoneId()}
+     */
+    public ZoneId getNormalizedZoneId() {
+        return _normalized;
+    }
+
+    /**
+     * @param normalized Whether normalized id is to be returned
+     */
+    public ZoneId getZoneId(boolean normalized) {
+        return normalized ? _normalized : _zoneId;
+    }
+
+    /**
+     * @return Offset of zone, if zone has fixed offset (like {@code UTC});
+     *    {@code null} otherwise
+     */
+    public ZoneOffset getFixedOffset() {
+        return _fixedOffset;
+    }
+
+    /**
+     * Method for finding offset of the zone at given instant; same as calling
+     * {@code getZoneId().getRules().getOffset(Instant.ofEpochSecond(epochSecond))}.
+     * Since offset transitions only occur at full seconds, fractional part of
+     * instant is not needed.
+     */
+    public ZoneOffset getOffset(long epochSecond) {
+        if (_fixedOffset != null) {
+            return _fixedOffset;
+        }
+        OffsetWindow w = _window;
+        if ((w == null) || (epochSecond < w.from) || (epochSecond >= w.to)) {
+            w = _findWindow(epochSecond);
+        }
+        return w.offset;
+    }
+
+    /**
+     * Method for finding offset of the zone for given local date-time; same as calling
+     * {@code getZoneId().getRules().getOffset(localDateTime)} (meaning that for
+     * gaps and overlaps, offset before transition is returned).
+     */
+    public ZoneOffset getOffset(LocalDateTime localDateTime) {
+        if (_fixedOffset != null) {
+            return _fixedOffset;
+        }
+        // as with instants, local transition times are full seconds
+        final long localSecond = localDateTime.toEpochSecond(ZoneOffset.UTC);
+        OffsetWindow w = _window;
+        if ((w != null) && (localSecond >= w.localFrom) && (localSecond < w.localTo)) {
+            return w.offset;
+        }
+        final ZoneOffset offset = _rules.getOffset(localDateTime);
+        _findWindow(localSecond - offset.getTotalSeconds());
+        return offset;
+    }
+
+    private OffsetWindow _findWindow(long epochSecond) {
+        final Instant instant = Instant.ofEpochSecond(epochSecond);
+        final ZoneOffset offset = _rules.getOffset(instant);
+        // note: "previous" transition is one strictly before given instant
+        final ZoneOffsetTransition prev = (epochSecond == Instant.MAX.getEpochSecond())
+                ? null : _rules.previousTransition(Instant.ofEpochSecond(epochSecond + 1));
+        final ZoneOffsetTransition next = _rules.nextTransition(instant);
+        final int offsetSecs = offset.getTotalSeconds();
+        long from, to, localFrom, localTo;
+        if (prev == null) {
+            from = localFrom = Long.MIN_VALUE;
+        } else {
+            from = prev.toEpochSecond();
+            // local times in gap or overlap map to offset before transition
+            localFrom = from + Math.max(offsetSecs, prev.getOffsetBefore().getTotalSeconds());
+        }
+        if (next == null) {
+            to = localTo = Long.MAX_VALUE;
+        } else {
+            to = next.toEpochSecond();
+            localTo = to + Math.max(offsetSecs, next.getOffsetAfter().getTotalSeconds());
+        }
+        OffsetWindow w = new OffsetWindow(from, to, localFrom, localTo, offset);
+        _window = w;
+        return w;
+    }
+
+    /**
+     * Period between two offset transitions, with the offset used during
+     * it; both as instants (epoch seconds) and local date-times (local epoch
+     * seconds), end-exclusive.
+     */
+    private final static class OffsetWindow
+    {
+        final long from, to;
+        final long localFrom, localTo;
+        final ZoneOffset offset;
+
+        OffsetWindow(long from, long to, long localFrom, long localTo, ZoneOffset offset) {
+            this.from = from;
+            this.to = to;
+            this.localFrom = localFrom;
+            this.localTo = localTo;
+            this.offset = offset;
+        }
+    }
+}
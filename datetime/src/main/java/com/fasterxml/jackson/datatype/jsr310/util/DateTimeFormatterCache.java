@@ -0,0 +1,161 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * Helper class for constructing {@link DateTimeFormatter}s from patterns
+ * (as specified with {@code @JsonFormat}), with JVM-wide caching: since
+ * formatters are immutable, same instance can be shared by all serializers and
+ * deserializers (of all mappers) that use the same pattern and settings,
+ * instead of parsing the pattern and building a new formatter for each
+ * annotated property.
+ *<p>
+ * Results are always equivalent to ones built with
+ * {@link DateTimeFormatterBuilder#appendPattern(String)} (and, for patterns,
+ * {@link DateTimeFormatter#ofPattern(String, Locale)}); failures (exceptions)
+ * are not cached.
+ *
+ * @since 2.19
+ */
+public final class DateTimeFormatterCache
+{
+    /**
+     * Maximum number of formatters cached.
+     */
+    private final static int MAX_ENTRIES = 500;
+
+    private final static LRUMap<Key, DateTimeFormatter> _formatters = new LRUMap<>(16, MAX_ENTRIES);
+
+    /**
+     * Writers for formatters in {@link #_formatters} that have patterns
+     * supported by {@link DateTimePatternWriter}; keyed by formatter identity.
+     */
+    private final static LRUMap<DateTimeFormatter, DateTimePatternWriter> _writers
+        = new LRUMap<>(16, MAX_ENTRIES);
+
+    /**
+     * Parsers for formatters in {@link #_formatters} that have patterns
+     * supported by {@link DateTimePatternParser}; keyed by formatter identity.
+     */
+    private final static LRUMap<DateTimeFormatter, DateTimePatternParser> _parsers
+        = new LRUMap<>(16, MAX_ENTRIES);
+
+    private DateTimeFormatterCache() { }
+
+    /**
+     * Method for finding formatter for given pattern and settings, constructing
+     * it if not yet cached.
+     *
+     * @param pattern Pattern as accepted by {@link DateTimeFormatterBuilder#appendPattern(String)}
+     * @param locale Locale to use, if any; if {@code null}, default
+     *    {@link Locale.Category#FORMAT} locale is used
+     * @param caseInsensitive Whether parsing is to be case-insensitive
+     * @param resolverStyle Resolver style to use
+     * @param zone Zone override to use, if any; {@code null} for none
+     *
+     * @throws IllegalArgumentException if pattern is invalid
+     */
+    public static DateTimeFormatter formatter(String pattern, Locale locale,
+            boolean caseInsensitive, ResolverStyle resolverStyle, ZoneId zone)
+    {
+        if (locale == null) {
+            locale = Locale.getDefault(Locale.Category.FORMAT);
+        }
+        final Key key = new Key(pattern, locale, caseInsensitive, resolverStyle, zone);
+        DateTimeFormatter df = _formatters.get(key);
+        if (df == null) {
+            DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder();
+            if (caseInsensitive) {
+                builder.parseCaseInsensitive();
+            }
+            df = builder.appendPattern(pattern)
+                    .toFormatter(locale)
+                    .withResolverStyle(resolverStyle);
+            if (zone != null) {
+                df = df.withZone(zone);
+            }
+            // register writer and parser first, so they are available once formatter is
+            DateTimePatternWriter w = DateTimePatternWriter.compile(pattern);
+            if (w != null) {
+                _writers.put(df, w);
+            }
+            DateTimePatternParser p = DateTimePatternParser.compile(pattern,
+                    caseInsensitive, resolverStyle);
+            if (p != null) {
+                _parsers.put(df, p);
+            }
+            DateTimeFormatter old = _formatters.putIfAbsent(key, df);
+            if (old != null) {
+                return old;
+            }
+        }
+        return df;
+    }
+
+    /**
+     * Method for finding {@link DateTimePatternWriter} that produces output
+     * identical to given formatter, if formatter was constructed by
+     * {@link #formatter} and its pattern is supported by writer.
+     * Note that caller needs to handle zone override of the formatter, if any.
+     *
+     * @return Writer to use, if any; {@code null} if formatter must be used
+     */
+    public static DateTimePatternWriter patternWriter(DateTimeFormatter formatter) {
+        return _writers.get(formatter);
+    }
+
+    /**
+     * Method for finding {@link DateTimePatternParser} that produces same values
+     * as given formatter (when it produces a value), if formatter was constructed
+     * by {@link #formatter} and its pattern is supported by parser.
+     *
+     * @return Parser to use, if any; {@code null} if formatter must be used
+     */
+    public static DateTimePatternParser patternParser(DateTimeFormatter formatter) {
+        return _parsers.get(formatter);
+    }
+
+    private final static class Key
+    {
+        private final String _pattern;
+        private final Locale _locale;
+        private final boolean _caseInsensitive;
+        private final ResolverStyle _resolverStyle;
+        private final ZoneId _zone;
+        private final int _hashCode;
+
+        Key(String pattern, Locale locale, boolean caseInsensitive,
+                ResolverStyle resolverStyle, ZoneId zone) {
+            _pattern = pattern;
+            _locale = locale;
+            _caseInsensitive = caseInsensitive;
+            _resolverStyle = resolverStyle;
+            _zone = zone;
+            _hashCode = Objects.hash(pattern, locale, caseInsensitive, resolverStyle, zone);
+        }
+
+        @Override
+        public int hashCode() {
+            return _hashCode;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return _pattern.equals(other._pattern)
+                    && _locale.equals(other._locale)
+                    && (_caseInsensitive == other._caseInsensitive)
+                    && (_resolverStyle == other._resolverStyle)
+                    && Objects.equals(_zone, other._zone);
+        }
+    }
+}
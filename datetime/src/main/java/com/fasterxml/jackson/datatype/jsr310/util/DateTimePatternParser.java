@@ -0,0 +1,443 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper class for parsing date/time values using a fixed-layout pattern (as
+ * specified with {@code @JsonFormat(pattern = ...)}) directly from a
+ * {@code char[]} buffer, without going through the general-purpose parsing of
+ * {@link java.time.format.DateTimeFormatter}.
+ *<p>
+ * Only patterns that consist of fixed-width numeric fields and literals are
+ * supported:
+ *<ul>
+ * <li>{@code uuuu}, {@code uu}: year (2-digit one with base year of 2000)</li>
+ * <li>{@code yyyy}, {@code yy}: year-of-era (only with {@link ResolverStyle#SMART},
+ *    since {@link ResolverStyle#STRICT} requires era to be specified)</li>
+ * <li>{@code MM}, {@code dd}, {@code HH}, {@code mm}, {@code ss}</li>
+ * <li>{@code S} to {@code SSSSSSSSS}: fraction-of-second</li>
+ * <li>literals, quoted or not</li>
+ *</ul>
+ * and in which date fields are either all included or all missing, and time
+ * fields form a sequence of hour, minute, second and fraction (with trailing
+ * fields possibly missing). {@link #compile} returns {@code null} for other
+ * patterns.
+ *<p>
+ * Parse methods only return a value if it is same value formatter would
+ * produce; for anything else (mismatching layout, invalid values, values that
+ * formatter would adjust like {@code 24:00} or February 30 in
+ * {@link ResolverStyle#SMART} mode) {@code null} is returned and caller needs to
+ * use formatter instead, to get same result or error as before.
+ *
+ * @since 2.19
+ */
+public final class DateTimePatternParser
+{
+    private final static int OP_LITERAL = 0;
+    private final static int OP_YEAR = 1;
+    private final static int OP_YEAR_2 = 2;
+    private final static int OP_YEAR_OF_ERA = 3;
+    private final static int OP_YEAR_OF_ERA_2 = 4;
+    private final static int OP_MONTH = 5;
+    private final static int OP_DAY = 6;
+    private final static int OP_HOUR = 7;
+    private final static int OP_MINUTE = 8;
+    private final static int OP_SECOND = 9;
+    private final static int OP_FRACTION = 10;
+
+    private final static int[] FRACTION_SCALE = new int[] {
+            1, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    /**
+     * Operations, as pairs of opcode and argument (width of value;
+     * or for literals, index into {@link #_literals})
+     */
+    private final int[] _ops;
+
+    private final char[][] _literals;
+
+    private final boolean _caseInsensitive;
+
+    /**
+     * Total length of text matching the pattern
+     */
+    private final int _length;
+
+    private final boolean _hasDate;
+
+    private final boolean _hasTime;
+
+    private DateTimePatternParser(int[] ops, char[][] literals, boolean caseInsensitive,
+            int length, boolean hasDate, boolean hasTime) {
+        _ops = ops;
+        _literals = literals;
+        _caseInsensitive = caseInsensitive;
+        _length = length;
+        _hasDate = hasDate;
+        _hasTime = hasTime;
+    }
+
+    /**
+     * Factory method for constructing parser for given pattern, if pattern
+     * has fixed layout supported.
+     *
+     * @param caseInsensitive Whether literals are matched case-insensitively
+     *    (as per {@link java.time.format.DateTimeFormatterBuilder#parseCaseInsensitive})
+     * @param resolverStyle Resolver style formatter uses
+     *
+     * @return Parser for pattern, if pattern is supported; {@code null} otherwise
+     */
+    public static DateTimePatternParser compile(String pattern, boolean caseInsensitive,
+            ResolverStyle resolverStyle)
+    {
+        if ((resolverStyle != ResolverStyle.SMART) && (resolverStyle != ResolverStyle.STRICT)) {
+            return null;
+        }
+        final List<Integer> ops = new ArrayList<>();
+        final List<char[]> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        // bit for each field seen, in order of OP_xxx
+        int fields = 0;
+        int length = 0;
+        final int len = pattern.length();
+
+        for (int i = 0; i < len; ) {
+            final char c = pattern.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int count = 1;
+                while ((i + count < len) && (pattern.charAt(i + count) == c)) {
+                    ++count;
+                }
+                i += count;
+                final int op;
+                switch (c) {
+                case 'u':
+                case 'y':
+                    // year-of-era can not be resolved without era in strict mode
+                    if ((c == 'y') && (resolverStyle == ResolverStyle.STRICT)) {
+                        return null;
+                    }
+                    if (count == 4) {
+                        op = (c == 'u') ? OP_YEAR : OP_YEAR_OF_ERA;
+                    } else if (count == 2) {
+                        op = (c == 'u') ? OP_YEAR_2 : OP_YEAR_OF_ERA_2;
+                    } else {
+                        return null;
+                    }
+                    break;
+                case 'M':
+                    op = OP_MONTH;
+                    break;
+                case 'd':
+                    op = OP_DAY;
+                    break;
+                case 'H':
+                    op = OP_HOUR;
+                    break;
+                case 'm':
+                    op = OP_MINUTE;
+                    break;
+                case 's':
+                    op = OP_SECOND;
+                    break;
+                case 'S':
+                    if (count > 9) {
+                        return null;
+                    }
+                    op = OP_FRACTION;
+                    break;
+                default:
+                    return null;
+                }
+                // all but year and fraction fields need to be 2 digits to be fixed-width
+                if ((op >= OP_MONTH) && (op <= OP_SECOND) && (count != 2)) {
+                    return null;
+                }
+                // same field twice would need cross-checks
+                final int bit = 1 << _fieldIndex(op);
+                if ((fields & bit) != 0) {
+                    return null;
+                }
+                fields |= bit;
+                _addLiteral(ops, literals, literal);
+                ops.add(op);
+                ops.add(count);
+                length += count;
+                continue;
+            }
+            if (c == '\'') {
+                int end = i + 1;
+                for (; end < len; ++end) {
+                    if (pattern.charAt(end) == '\'') {
+                        if ((end + 1 < len) && (pattern.charAt(end + 1) == '\'')) {
+                            ++end;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                if (end >= len) { // unterminated
+                    return null;
+                }
+                if (end == i + 1) {
+                    literal.append('\'');
+                } else {
+                    literal.append(pattern.substring(i + 1, end).replace("''", "'"));
+                }
+                i = end + 1;
+                continue;
+            }
+            // optional sections, padding and reserved characters not supported
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            }
+            literal.append(c);
+            ++i;
+        }
+        _addLiteral(ops, literals, literal);
+        for (char[] lit : literals) {
+            length += lit.length;
+        }
+
+        // Date fields: all or nothing
+        final int dateFields = fields & 0x7; // year, month, day
+        if ((dateFields != 0) && (dateFields != 0x7)) {
+            return null;
+        }
+        // Time fields: hour, minute, second, fraction; trailing ones may be missing
+        final int timeFields = fields >> 3;
+        if ((timeFields & (timeFields + 1)) != 0) {
+            return null;
+        }
+        if (fields == 0) {
+            return null;
+        }
+        int[] opArray = new int[ops.size()];
+        for (int i = 0; i < opArray.length; ++i) {
+            opArray[i] = ops.get(i);
+        }
+        if (!_hasFixedYear(opArray, literals)) {
+            return null;
+        }
+        return new DateTimePatternParser(opArray, literals.toArray(new char[0][]),
+                caseInsensitive, length, dateFields != 0, timeFields != 0);
+    }
+
+    /**
+     * Helper method for checking that 4-digit year (which formatter parses as
+     * variable-width field, leaving room only for directly following fixed-width
+     * fields) can only match exactly 4 digits: that is, it is followed by
+     * 2-digit fields (but not fraction, which older JDKs do not handle as
+     * fixed-width) and then either end of pattern or a non-digit literal.
+     */
+    private static boolean _hasFixedYear(int[] ops, List<char[]> literals)
+    {
+        for (int i = 0; i < ops.length; i += 2) {
+            if ((ops[i] == OP_YEAR) || (ops[i] == OP_YEAR_OF_ERA)) {
+                for (i += 2; i < ops.length; i += 2) {
+                    if (ops[i] == OP_LITERAL) {
+                        final char c = literals.get(ops[i+1])[0];
+                        return (c < '0') || (c > '9');
+                    }
+                    if (ops[i] == OP_FRACTION) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return true;
+    }
+
+    private static int _fieldIndex(int op) {
+        switch (op) {
+        case OP_YEAR:
+        case OP_YEAR_2:
+        case OP_YEAR_OF_ERA:
+        case OP_YEAR_OF_ERA_2:
+            return 0;
+        default:
+            return op - OP_MONTH + 1;
+        }
+    }
+
+    private static void _addLiteral(List<Integer> ops, List<char[]> literals,
+            StringBuilder literal)
+    {
+        if (literal.length() > 0) {
+            ops.add(OP_LITERAL);
+            ops.add(literals.size());
+            literals.add(literal.toString().toCharArray());
+            literal.setLength(0);
+        }
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Value parsed, if text matches pattern, pattern has date fields
+     *    and value is valid; {@code null} otherwise
+     */
+    public LocalDate parseLocalDate(char[] ch, int start, int end) {
+        if (!_hasDate) {
+            return null;
+        }
+        final int[] f = _parse(ch, start, end);
+        return (f == null) ? null : LocalDate.of(f[0], f[1], f[2]);
+    }
+
+    /**
+     * @return Value parsed, if text matches pattern, pattern has date and time
+     *    fields and value is valid; {@code null} otherwise
+     */
+    public LocalDateTime parseLocalDateTime(char[] ch, int start, int end) {
+        if (!_hasDate || !_hasTime) {
+            return null;
+        }
+        final int[] f = _parse(ch, start, end);
+        return (f == null) ? null : LocalDateTime.of(f[0], f[1], f[2], f[3], f[4], f[5], f[6]);
+    }
+
+    /**
+     * @return Value parsed, if text matches pattern, pattern has time fields
+     *    and value is valid; {@code null} otherwise
+     */
+    public LocalTime parseLocalTime(char[] ch, int start, int end) {
+        if (!_hasTime) {
+            return null;
+        }
+        final int[] f = _parse(ch, start, end);
+        return (f == null) ? null : LocalTime.of(f[3], f[4], f[5], f[6]);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Fields (year, month, day, hour, minute, second, nano) if text
+     *   matches and all fields are valid (without any adjustments); {@code null}
+     *   otherwise
+     */
+    private int[] _parse(char[] ch, int start, int end)
+    {
+        if ((end - start) != _length) {
+            return null;
+        }
+        final int[] ops = _ops;
+        int year = 0, month = 0, day = 0, hour = 0, minute = 0, second = 0, nanos = 0;
+        int ix = start;
+        for (int i = 0; i < ops.length; i += 2) {
+            final int width = ops[i+1];
+            if (ops[i] == OP_LITERAL) {
+                final char[] lit = _literals[width];
+                for (int j = 0; j < lit.length; ++j) {
+                    if (!_charEquals(lit[j], ch[ix++])) {
+                        return null;
+                    }
+                }
+                continue;
+            }
+            final int value = _parseDigits(ch, ix, width);
+            if (value < 0) {
+                return null;
+            }
+            ix += width;
+            switch (ops[i]) {
+            case OP_YEAR:
+                year = value;
+                break;
+            case OP_YEAR_OF_ERA:
+                if (value == 0) { // no year-of-era 0
+                    return null;
+                }
+                year = value;
+                break;
+            case OP_YEAR_2:
+            case OP_YEAR_OF_ERA_2: // base year 2000
+                year = 2000 + value;
+                break;
+            case OP_MONTH:
+                month = value;
+                break;
+            case OP_DAY:
+                day = value;
+                break;
+            case OP_HOUR:
+                hour = value;
+                break;
+            case OP_MINUTE:
+                minute = value;
+                break;
+            case OP_SECOND:
+                second = value;
+                break;
+            case OP_FRACTION:
+                nanos = value * FRACTION_SCALE[width];
+                break;
+            }
+        }
+        // Validate: anything that formatter would reject, or adjust (like
+        // day-of-month 31 for 30-day month, or hour 24, in "smart" mode),
+        // is left for formatter to handle
+        if (_hasDate) {
+            if ((month < 1) || (month > 12) || (day < 1)
+                    || (day > _lengthOfMonth(year, month))) {
+                return null;
+            }
+        }
+        if ((hour > 23) || (minute > 59) || (second > 59)) {
+            return null;
+        }
+        return new int[] { year, month, day, hour, minute, second, nanos };
+    }
+
+    private static int _parseDigits(char[] ch, int ix, int width)
+    {
+        int value = 0;
+        for (int end = ix + width; ix < end; ++ix) {
+            final int d = ch[ix] - '0';
+            if ((d < 0) || (d > 9)) {
+                return -1;
+            }
+            value = (value * 10) + d;
+        }
+        return value;
+    }
+
+    private boolean _charEquals(char exp, char actual) {
+        if (exp == actual) {
+            return true;
+        }
+        // same as what `DateTimeParseContext.charEquals()` does
+        return _caseInsensitive
+                && ((Character.toUpperCase(exp) == Character.toUpperCase(actual))
+                    || (Character.toLowerCase(exp) == Character.toLowerCase(actual)));
+    }
+
+    private static int _lengthOfMonth(int year, int month) {
+        switch (month) {
+        case 2:
+            return ((year & 3) == 0 && ((year % 100) != 0 || (year % 400) == 0)) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+}
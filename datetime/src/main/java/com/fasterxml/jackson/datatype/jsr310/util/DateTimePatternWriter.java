@@ -0,0 +1,331 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Helper class for writing date/time values using a pattern (as specified
+ * with {@code @JsonFormat(pattern = ...)}) directly into a {@code char[]} buffer,
+ * without going through the general-purpose printing of
+ * {@link java.time.format.DateTimeFormatter}.
+ *<p>
+ * Only a numeric subset of pattern letters is supported, for which output does
+ * not depend on locale (when formatter uses standard
+ * {@link java.time.format.DecimalStyle}, as ones built from patterns do):
+ *<ul>
+ * <li>{@code u}, {@code y}: year (proleptic, of-era)</li>
+ * <li>{@code M} (1 or 2 letters), {@code d}, {@code H}, {@code m}, {@code s}</li>
+ * <li>{@code S}: fraction-of-second; {@code n}: nano-of-second</li>
+ * <li>{@code X}, {@code x} (1 to 3 letters): zone offset</li>
+ * <li>literals, quoted or not</li>
+ *</ul>
+ * {@link #compile} returns {@code null} for patterns containing anything else.
+ * Output is identical to that of {@code DateTimeFormatterBuilder.appendPattern()};
+ * for values it can not handle identically (years outside of 1 - 9999, offsets
+ * with seconds) write method returns {@code -1} and caller needs to use
+ * formatter instead.
+ *
+ * @since 2.19
+ */
+public final class DateTimePatternWriter
+{
+    private final static int OP_LITERAL = 0;
+    private final static int OP_YEAR = 1;
+    private final static int OP_YEAR_OF_ERA = 2;
+    private final static int OP_MONTH = 3;
+    private final static int OP_DAY = 4;
+    private final static int OP_HOUR = 5;
+    private final static int OP_MINUTE = 6;
+    private final static int OP_SECOND = 7;
+    private final static int OP_FRACTION = 8;
+    private final static int OP_NANO = 9;
+    private final static int OP_OFFSET = 10;
+    private final static int OP_OFFSET_ZERO_AS_Z = 11;
+
+    /**
+     * Operations, as pairs of opcode and argument (width of value;
+     * or for literals, index into {@link #_literals})
+     */
+    private final int[] _ops;
+
+    private final char[][] _literals;
+
+    private final boolean _usesOffset;
+
+    private final int _maxLength;
+
+    private DateTimePatternWriter(int[] ops, char[][] literals, boolean usesOffset,
+            int maxLength) {
+        _ops = ops;
+        _literals = literals;
+        _usesOffset = usesOffset;
+        _maxLength = maxLength;
+    }
+
+    /**
+     * Factory method for constructing writer for given pattern, if pattern
+     * only uses supported pattern letters.
+     *
+     * @return Writer for pattern, if pattern is supported (and valid);
+     *   {@code null} otherwise
+     */
+    public static DateTimePatternWriter compile(String pattern)
+    {
+        final List<Integer> ops = new ArrayList<>();
+        final List<char[]> literals = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        boolean usesOffset = false;
+        int maxLength = 0;
+        final int len = pattern.length();
+
+        for (int i = 0; i < len; ) {
+            final char c = pattern.charAt(i);
+            if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+                int count = 1;
+                while ((i + count < len) && (pattern.charAt(i + count) == c)) {
+                    ++count;
+                }
+                i += count;
+                final int op;
+                switch (c) {
+                case 'u':
+                case 'y':
+                    if (count > 4) {
+                        return null;
+                    }
+                    op = (c == 'u') ? OP_YEAR : OP_YEAR_OF_ERA;
+                    maxLength += 4;
+                    break;
+                case 'M':
+                    if (count > 2) { // text
+                        return null;
+                    }
+                    op = OP_MONTH;
+                    maxLength += 2;
+                    break;
+                case 'd':
+                case 'H':
+                case 'm':
+                case 's':
+                    if (count > 2) { // invalid
+                        return null;
+                    }
+                    op = (c == 'd') ? OP_DAY : ((c == 'H') ? OP_HOUR
+                            : ((c == 'm') ? OP_MINUTE : OP_SECOND));
+                    maxLength += 2;
+                    break;
+                case 'S':
+                    if (count > 9) {
+                        return null;
+                    }
+                    op = OP_FRACTION;
+                    maxLength += count;
+                    break;
+                case 'n':
+                    if (count > 9) {
+                        return null;
+                    }
+                    op = OP_NANO;
+                    maxLength += 9;
+                    break;
+                case 'X':
+                case 'x':
+                    if (count > 3) { // would need seconds
+                        return null;
+                    }
+                    op = (c == 'X') ? OP_OFFSET_ZERO_AS_Z : OP_OFFSET;
+                    usesOffset = true;
+                    maxLength += 6;
+                    break;
+                default:
+                    return null;
+                }
+                _addLiteral(ops, literals, literal);
+                ops.add(op);
+                ops.add(count);
+                continue;
+            }
+            if (c == '\'') {
+                int end = i + 1;
+                for (; end < len; ++end) {
+                    if (pattern.charAt(end) == '\'') {
+                        if ((end + 1 < len) && (pattern.charAt(end + 1) == '\'')) {
+                            ++end;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                if (end >= len) { // unterminated
+                    return null;
+                }
+                if (end == i + 1) {
+                    literal.append('\'');
+                } else {
+                    literal.append(pattern.substring(i + 1, end).replace("''", "'"));
+                }
+                i = end + 1;
+                continue;
+            }
+            // optional sections, padding and reserved characters not supported
+            if (c == '[' || c == ']' || c == '{' || c == '}' || c == '#') {
+                return null;
+            }
+            literal.append(c);
+            ++i;
+        }
+        _addLiteral(ops, literals, literal);
+        for (char[] lit : literals) {
+            maxLength += lit.length;
+        }
+        if (maxLength > TextBuffers.BUFFER_LENGTH) {
+            return null;
+        }
+        int[] opArray = new int[ops.size()];
+        for (int i = 0; i < opArray.length; ++i) {
+            opArray[i] = ops.get(i);
+        }
+        return new DateTimePatternWriter(opArray, literals.toArray(new char[0][]),
+                usesOffset, maxLength);
+    }
+
+    private static void _addLiteral(List<Integer> ops, List<char[]> literals,
+            StringBuilder literal)
+    {
+        if (literal.length() > 0) {
+            ops.add(OP_LITERAL);
+            ops.add(literals.size());
+            literals.add(literal.toString().toCharArray());
+            literal.setLength(0);
+        }
+    }
+
+    /**
+     * @return Whether pattern includes zone offset (and can thereby only be
+     *    used for values that have one)
+     */
+    public boolean usesOffset() {
+        return _usesOffset;
+    }
+
+    /**
+     * @return Maximum number of characters written by {@link #write}
+     */
+    public int maxLength() {
+        return _maxLength;
+    }
+
+    /**
+     * Method for writing given date/time into buffer.
+     *
+     * @param offsetSeconds Zone offset of value, in seconds; ignored if
+     *    pattern does not use offset
+     *
+     * @return Index after last character written; or {@code -1} if value
+     *    can not be written (and formatter needs to be used instead)
+     */
+    public int write(char[] buf, int ix, int year, int month, int day,
+            int hour, int minute, int second, int nanos, int offsetSeconds)
+    {
+        // year 0 and before would need sign (or era) handling
+        if (year < 1 || year > 9999) {
+            return -1;
+        }
+        if (_usesOffset && (offsetSeconds % 60 != 0)) {
+            return -1;
+        }
+        final int[] ops = _ops;
+        for (int i = 0; i < ops.length; i += 2) {
+            final int width = ops[i+1];
+            switch (ops[i]) {
+            case OP_LITERAL:
+                final char[] lit = _literals[width];
+                System.arraycopy(lit, 0, buf, ix, lit.length);
+                ix += lit.length;
+                break;
+            case OP_YEAR:
+            case OP_YEAR_OF_ERA: // same for years 1 and above
+                if (width == 2) { // reduced to 2 digits
+                    ix = _writePadded(buf, ix, year % 100, 2);
+                } else {
+                    ix = _writePadded(buf, ix, year, width);
+                }
+                break;
+            case OP_MONTH:
+                ix = _writePadded(buf, ix, month, width);
+                break;
+            case OP_DAY:
+                ix = _writePadded(buf, ix, day, width);
+                break;
+            case OP_HOUR:
+                ix = _writePadded(buf, ix, hour, width);
+                break;
+            case OP_MINUTE:
+                ix = _writePadded(buf, ix, minute, width);
+                break;
+            case OP_SECOND:
+                ix = _writePadded(buf, ix, second, width);
+                break;
+            case OP_FRACTION:
+                // fraction is truncated, not rounded
+                int value = nanos;
+                for (int j = width; j < 9; ++j) {
+                    value /= 10;
+                }
+                ix = _writePadded(buf, ix, value, width);
+                break;
+            case OP_NANO:
+                ix = _writePadded(buf, ix, nanos, width);
+                break;
+            case OP_OFFSET:
+            case OP_OFFSET_ZERO_AS_Z:
+                ix = _writeOffset(buf, ix, offsetSeconds, width, ops[i] == OP_OFFSET_ZERO_AS_Z);
+                break;
+            }
+        }
+        return ix;
+    }
+
+    /**
+     * Writes offset the way patterns "+HHmm" (1 letter), "+HHMM" (2 letters)
+     * and "+HH:MM" (3 letters) do.
+     */
+    private static int _writeOffset(char[] buf, int ix, int offsetSeconds, int width,
+            boolean zeroAsZ)
+    {
+        if (offsetSeconds == 0) {
+            if (zeroAsZ) {
+                buf[ix++] = 'Z';
+                return ix;
+            }
+        }
+        final int abs = Math.abs(offsetSeconds);
+        final int minutes = (abs / 60) % 60;
+        buf[ix++] = (offsetSeconds < 0) ? '-' : '+';
+        ix = _writePadded(buf, ix, abs / 3600, 2);
+        if ((width > 1) || (minutes != 0)) {
+            if (width == 3) {
+                buf[ix++] = ':';
+            }
+            ix = _writePadded(buf, ix, minutes, 2);
+        }
+        return ix;
+    }
+
+    private static int _writePadded(char[] buf, int ix, int value, int minWidth)
+    {
+        int digits = 1;
+        for (int v = value; v >= 10; v /= 10) {
+            ++digits;
+        }
+        for (int i = digits; i < minWidth; ++i) {
+            buf[ix++] = '0';
+        }
+        int end = ix + digits;
+        for (int i = end; --i >= ix; ) {
+            buf[i] = (char) ('0' + (value % 10));
+            value /= 10;
+        }
+        return end;
+    }
+}
@@ -0,0 +1,105 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-thread cache of the most recently written {@code yyyy-MM-ddTHH:mm:ss}
+ * prefix of ISO-8601 date/time values, keyed by local epoch second (that is,
+ * epoch second with zone offset applied). Used by {@link IsoDateTimeWriter}
+ * when enabled with
+ * {@link com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature#CACHE_ISO_DATE_TIME_PREFIX}:
+ * useful when consecutive values written by a thread mostly fall within the
+ * same second, in which case only fractional seconds and offset need to be
+ * produced.
+ *<p>
+ * JVM-wide hit and miss counts are kept to allow verifying whether caching
+ * pays off for given usage.
+ *
+ * @since 2.19
+ */
+public final class DateTimePrefixCache
+{
+    /**
+     * Length of cached prefix: {@code yyyy-MM-ddTHH:mm:ss}
+     */
+    final static int PREFIX_LENGTH = 19;
+
+    private final static ThreadLocal<DateTimePrefixCache> _cache
+        = ThreadLocal.withInitial(DateTimePrefixCache::new);
+
+    private final static LongAdder _hits = new LongAdder();
+
+    private final static LongAdder _misses = new LongAdder();
+
+    private final char[] _prefix = new char[PREFIX_LENGTH];
+
+    /**
+     * Local epoch second of {@link #_prefix}; {@code Long.MIN_VALUE} (never valid
+     * for supported range) if none yet written.
+     */
+    private long _localSecond = Long.MIN_VALUE;
+
+    private DateTimePrefixCache() { }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * @return Number of prefix lookups (across all threads) that were satisfied
+     *    from cache
+     */
+    public static long getHitCount() {
+        return _hits.sum();
+    }
+
+    /**
+     * @return Number of prefix lookups (across all threads) that required
+     *    prefix to be (re)calculated
+     */
+    public static long getMissCount() {
+        return _misses.sum();
+    }
+
+    /**
+     * Method for resetting hit and miss counts.
+     */
+    public static void resetCounts() {
+        _hits.reset();
+        _misses.reset();
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * @return Local epoch second of prefix cached for the current thread;
+     *    {@code Long.MIN_VALUE} if none yet written
+     */
+    static long cachedLocalSecond() {
+        return _cache.get()._localSecond;
+    }
+
+    /**
+     * Writes {@code yyyy-MM-ddTHH:mm:ss} for given local epoch seconds,
+     * which must be within range supported by {@link IsoDateTimeWriter}.
+     */
+    static int writePrefix(char[] buf, int ix, long localSecond)
+    {
+        final DateTimePrefixCache cache = _cache.get();
+        if (cache._localSecond == localSecond) {
+            _hits.increment();
+        } else {
+            _misses.increment();
+            IsoDateTimeWriter._writeLocalDateTime(cache._prefix, 0, localSecond);
+            cache._localSecond = localSecond;
+        }
+        System.arraycopy(cache._prefix, 0, buf, ix, PREFIX_LENGTH);
+        return ix + PREFIX_LENGTH;
+    }
+}
@@ -0,0 +1,63 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Simple bounded, lock-free pool for interning immutable values (like
+ * {@link java.time.LocalDate}s) so that equal values deserialized at different
+ * times can share a single instance: useful when large numbers of deserialized
+ * values are retained in memory, but there are relatively few distinct values.
+ *<p>
+ * Pool is direct-mapped, like {@link SerializedStringCache}: each key (derived
+ * from value by caller) maps to exactly one slot, and a newer value simply replaces
+ * older one; so memory usage is capped by the size given at construction.
+ * Keys need not be unique: values are matched using {@link Object#equals}, so
+ * races between threads may lose entries but never return mismatching ones.
+ * Slots are assigned by low bits of key so that consecutive keys never collide.
+ *
+ * @param <T> Type of values interned
+ *
+ * @since 2.19
+ */
+public final class InternPool<T>
+{
+    /**
+     * Default number of slots in pools used by deserializers.
+     */
+    public final static int DEFAULT_SIZE = 4096;
+
+    private final AtomicReferenceArray<T> _values;
+
+    private final int _mask;
+
+    /**
+     * @param size Number of slots; rounded up to the nearest power of two
+     */
+    public InternPool(int size) {
+        int actual = Integer.highestOneBit(Math.max(1, size));
+        if (actual < size) {
+            actual <<= 1;
+        }
+        _values = new AtomicReferenceArray<>(actual);
+        _mask = actual - 1;
+    }
+
+    /**
+     * Method for finding pooled instance equal to given value, if any; or
+     * if none, adding given value in pool.
+     *
+     * @param key Key derived from value, used for choosing slot
+     * @param value Value to intern
+     *
+     * @return Pooled instance equal to value, if one found; value itself otherwise
+     */
+    public T intern(long key, T value) {
+        final int ix = (int) key & _mask;
+        final T pooled = _values.get(ix);
+        if (value.equals(pooled)) {
+            return pooled;
+        }
+        _values.lazySet(ix, value);
+        return value;
+    }
+}
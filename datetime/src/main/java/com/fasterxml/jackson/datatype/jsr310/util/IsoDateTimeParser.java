@@ -0,0 +1,603 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Hand-written single-pass parser for the canonical textual representations
+ * of ISO-8601 date/time values, used by deserializers as a fast path
+ * instead of {@link java.time.format.DateTimeFormatter} when one of the
+ * default {@code ISO_xxx} formatters is in use.
+ *<p>
+ * Parse methods only handle the most common shapes (4-digit years, upper-case
+ * separators, offsets of form {@code Z}, {@code +hh:mm} or {@code +hhmm})
+ * and only accept in-range values: for anything else they return {@code null}
+ * and caller is expected to fall back to formatter-based parsing, both to
+ * support the less common (but valid) shapes and to get the usual error
+ * messages for invalid ones.
+ *
+ * @since 2.19
+ */
+public final class IsoDateTimeParser
+{
+    private final static int NO_OFFSET = Integer.MIN_VALUE;
+
+    private final static int MAX_OFFSET_SECONDS = 18 * 3600;
+
+    private final static long DAYS_0000_TO_1970 = 719528L;
+
+    private final static long SECONDS_PER_DAY = 86400L;
+
+    private final static long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final static int[] FRACTION_SCALE = new int[] {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000,
+            1_000, 100, 10, 1
+    };
+
+    private IsoDateTimeParser() { }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}
+     * would accept: {@code yyyy-MM-dd}.
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static LocalDate parseLocalDate(char[] ch, int start, int end)
+    {
+        if ((end - start) != 10) {
+            return null;
+        }
+        final int date = _parseDate(ch, start);
+        if (date < 0) {
+            return null;
+        }
+        return LocalDate.of(_year(date), _month(date), _day(date));
+    }
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}
+     * would accept: {@code yyyy-MM-ddTHH:mm[:ss[.fffffffff]]}.
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static LocalDateTime parseLocalDateTime(char[] ch, int start, int end)
+    {
+        if ((end - start) < 16 || ch[start + 10] != 'T') {
+            return null;
+        }
+        final int date = _parseDate(ch, start);
+        if (date < 0) {
+            return null;
+        }
+        final long nanoOfDay = _parseTime(ch, start + 11, end, false);
+        if (nanoOfDay < 0L) {
+            return null;
+        }
+        return _localDateTime(date, nanoOfDay);
+    }
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}
+     * would accept: {@code HH:mm[:ss[.fffffffff]]}.
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static LocalTime parseLocalTime(char[] ch, int start, int end)
+    {
+        final long nanoOfDay = _parseTime(ch, start, end, false);
+        if (nanoOfDay < 0L) {
+            return null;
+        }
+        return LocalTime.ofNanoOfDay(nanoOfDay);
+    }
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_INSTANT}
+     * would accept: {@code yyyy-MM-ddTHH:mm:ss[.fffffffff]Z}.
+     *
+     * @param zeroOffsetAsZ Whether zero offsets ({@code +00}, {@code +0000} and
+     *    {@code +00:00}) are accepted as alternatives for {@code Z}
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static Instant parseInstant(char[] ch, int start, int end,
+            boolean zeroOffsetAsZ)
+    {
+        if ((end - start) < 20 || ch[start + 10] != 'T') {
+            return null;
+        }
+        final int date = _parseDate(ch, start);
+        if (date < 0) {
+            return null;
+        }
+        final int timeEnd = _timeEnd(ch, start + 11, end);
+        final long nanoOfDay = _parseTime(ch, start + 11, timeEnd, true);
+        if (nanoOfDay < 0L) {
+            return null;
+        }
+        // Only UTC accepted here, regardless of JDK version
+        if (!_isUTC(ch, timeEnd, end, zeroOffsetAsZ)) {
+            return null;
+        }
+        long secs = _epochDay(date) * SECONDS_PER_DAY + (nanoOfDay / NANOS_PER_SECOND);
+        return Instant.ofEpochSecond(secs, nanoOfDay % NANOS_PER_SECOND);
+    }
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}
+     * would accept, as well as offsets without colon ({@code +hhmm}).
+     *
+     * @param zeroOffsetAsZ Whether zero offsets {@code +00} is to be accepted
+     *    as an alternative for {@code Z}
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static OffsetDateTime parseOffsetDateTime(char[] ch, int start, int end,
+            boolean zeroOffsetAsZ)
+    {
+        if ((end - start) < 17 || ch[start + 10] != 'T') {
+            return null;
+        }
+        final int date = _parseDate(ch, start);
+        if (date < 0) {
+            return null;
+        }
+        final int timeEnd = _timeEnd(ch, start + 11, end);
+        final long nanoOfDay = _parseTime(ch, start + 11, timeEnd, false);
+        if (nanoOfDay < 0L) {
+            return null;
+        }
+        final int offsetSecs = _parseOffset(ch, timeEnd, end, zeroOffsetAsZ);
+        if (offsetSecs == NO_OFFSET) {
+            return null;
+        }
+        return OffsetDateTime.of(_localDateTime(date, nanoOfDay),
+                ZoneOffset.ofTotalSeconds(offsetSecs));
+    }
+
+    /**
+     * Method for parsing content that {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}
+     * would accept, as well as offsets without colon ({@code +hhmm}). Zone id suffix
+     * (like {@code [Europe/Paris]}) is accepted for region-based zone ids (resolved
+     * using {@link ZoneIdCache}), if preceded by offset of form {@code Z} or {@code +hh:mm};
+     * in which case value is resolved to the instant indicated by offset, the same way
+     * formatter-based parsing would do.
+     *
+     * @param zeroOffsetAsZ Whether zero offsets {@code +00} is to be accepted
+     *    as an alternative for {@code Z}
+     *
+     * @return Parsed value, if content was in expected shape; {@code null} if not
+     */
+    public static ZonedDateTime parseZonedDateTime(char[] ch, int start, int end,
+            boolean zeroOffsetAsZ)
+    {
+        if ((end - start) < 17 || ch[start + 10] != 'T') {
+            return null;
+        }
+        final int date = _parseDate(ch, start);
+        if (date < 0) {
+            return null;
+        }
+        final int timeEnd = _timeEnd(ch, start + 11, end);
+        final long nanoOfDay = _parseTime(ch, start + 11, timeEnd, false);
+        if (nanoOfDay < 0L) {
+            return null;
+        }
+        if (ch[end - 1] == ']') {
+            return _parseWithZoneId(ch, timeEnd, end, date, nanoOfDay);
+        }
+        final int offsetSecs = _parseOffset(ch, timeEnd, end, zeroOffsetAsZ);
+        if (offsetSecs == NO_OFFSET) {
+            return null;
+        }
+        return ZonedDateTime.of(_localDateTime(date, nanoOfDay),
+                ZoneOffset.ofTotalSeconds(offsetSecs));
+    }
+
+    private static ZonedDateTime _parseWithZoneId(char[] ch, int offsetStart, int end,
+            int date, long nanoOfDay)
+    {
+        // Only "Z" and "+hh:mm" before zone id: formatter does not accept others
+        int offsetEnd;
+        if (ch[offsetStart] == 'Z') {
+            offsetEnd = offsetStart + 1;
+        } else {
+            offsetEnd = offsetStart + 6;
+        }
+        if ((offsetEnd >= end) || (ch[offsetEnd] != '[')) {
+            return null;
+        }
+        final int offsetSecs = _parseOffset(ch, offsetStart, offsetEnd, false);
+        if (offsetSecs == NO_OFFSET) {
+            return null;
+        }
+        final ZoneId zone = _parseZoneRegion(ch, offsetEnd + 1, end - 1);
+        if (zone == null) {
+            return null;
+        }
+        // JDK 8 formatter resolves local date-time using zone (and offset only for
+        // overlaps), later ones using offset: only safe if both agree and are unambiguous
+        final LocalDateTime ldt = _localDateTime(date, nanoOfDay);
+        final List<ZoneOffset> validOffsets = zone.getRules().getValidOffsets(ldt);
+        if ((validOffsets.size() != 1) || (validOffsets.get(0).getTotalSeconds() != offsetSecs)) {
+            return null;
+        }
+        return ZonedDateTime.ofLocal(ldt, zone, validOffsets.get(0));
+    }
+
+    /*
+    /**********************************************************************
+    /* Public API, String input
+    /**********************************************************************
+     */
+
+    // Variants for Strings (like Map keys): copied into per-thread buffer,
+    // since direct access would need to duplicate all parsing code
+
+    /**
+     * Alternative to {@link #parseLocalDate(char[], int, int)} for {@link String}s.
+     */
+    public static LocalDate parseLocalDate(String str) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseLocalDate(ch, 0, str.length());
+    }
+
+    /**
+     * Alternative to {@link #parseLocalDateTime(char[], int, int)} for {@link String}s.
+     */
+    public static LocalDateTime parseLocalDateTime(String str) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseLocalDateTime(ch, 0, str.length());
+    }
+
+    /**
+     * Alternative to {@link #parseLocalTime(char[], int, int)} for {@link String}s.
+     */
+    public static LocalTime parseLocalTime(String str) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseLocalTime(ch, 0, str.length());
+    }
+
+    /**
+     * Alternative to {@link #parseInstant(char[], int, int, boolean)} for {@link String}s.
+     */
+    public static Instant parseInstant(String str, boolean zeroOffsetAsZ) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseInstant(ch, 0, str.length(), zeroOffsetAsZ);
+    }
+
+    /**
+     * Alternative to {@link #parseOffsetDateTime(char[], int, int, boolean)} for {@link String}s.
+     */
+    public static OffsetDateTime parseOffsetDateTime(String str, boolean zeroOffsetAsZ) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseOffsetDateTime(ch, 0, str.length(), zeroOffsetAsZ);
+    }
+
+    /**
+     * Alternative to {@link #parseZonedDateTime(char[], int, int, boolean)} for {@link String}s.
+     */
+    public static ZonedDateTime parseZonedDateTime(String str, boolean zeroOffsetAsZ) {
+        final char[] ch = _chars(str);
+        return (ch == null) ? null : parseZonedDateTime(ch, 0, str.length(), zeroOffsetAsZ);
+    }
+
+    /**
+     * @return Per-thread buffer with contents of given String; or {@code null}
+     *    if String is too long to be a supported representation
+     */
+    private static char[] _chars(String str) {
+        final int len = str.length();
+        if (len > TextBuffers.BUFFER_LENGTH) {
+            return null;
+        }
+        final char[] ch = TextBuffers.charBuffer();
+        str.getChars(0, len, ch, 0);
+        return ch;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, components
+    /**********************************************************************
+     */
+
+    /**
+     * Helper method for parsing date of form {@code yyyy-MM-dd} starting at
+     * given offset; caller has to ensure there are at least 10 characters
+     * available.
+     *
+     * @return Year, month and day packed in an int; or -1 if not valid date
+     */
+    static int _parseDate(char[] ch, int ix)
+    {
+        if (ch[ix + 4] != '-' || ch[ix + 7] != '-') {
+            return -1;
+        }
+        final int yearHi = _parse2(ch, ix);
+        final int yearLo = _parse2(ch, ix + 2);
+        final int month = _parse2(ch, ix + 5);
+        final int day = _parse2(ch, ix + 8);
+        if ((yearHi | yearLo | month | day) < 0
+                || month < 1 || month > 12 || day < 1) {
+            return -1;
+        }
+        final int year = yearHi * 100 + yearLo;
+        if (day > 28 && day > _lengthOfMonth(year, month)) {
+            return -1;
+        }
+        return (year << 9) | (month << 5) | day;
+    }
+
+    /**
+     * Helper method for parsing time of form {@code HH:mm[:ss[.fffffffff]]}
+     * from given range (which must contain nothing else).
+     *
+     * @return Nano-of-day if valid time; -1 if not
+     */
+    static long _parseTime(char[] ch, int start, int end, boolean requireSeconds)
+    {
+        final int len = end - start;
+        if (len < 5 || ch[start + 2] != ':') {
+            return -1L;
+        }
+        final int hour = _parse2(ch, start);
+        final int minute = _parse2(ch, start + 3);
+        if (hour < 0 || hour > 23 || minute < 0 || minute > 59) {
+            return -1L;
+        }
+        long secs = hour * 3600 + minute * 60;
+        if (len == 5) {
+            return requireSeconds ? -1L : secs * NANOS_PER_SECOND;
+        }
+        if (len < 8 || ch[start + 5] != ':') {
+            return -1L;
+        }
+        final int second = _parse2(ch, start + 6);
+        if (second < 0 || second > 59) {
+            return -1L;
+        }
+        secs += second;
+        if (len == 8) {
+            return secs * NANOS_PER_SECOND;
+        }
+        // fraction: from 1 to 9 digits
+        final int fractionLen = len - 9;
+        if (fractionLen < 1 || fractionLen > 9 || ch[start + 8] != '.') {
+            return -1L;
+        }
+        int fraction = 0;
+        for (int i = start + 9; i < end; ++i) {
+            int d = ch[i] - '0';
+            if (d < 0 || d > 9) {
+                return -1L;
+            }
+            fraction = (fraction * 10) + d;
+        }
+        return (secs * NANOS_PER_SECOND) + (fraction * FRACTION_SCALE[fractionLen]);
+    }
+
+    /**
+     * Helper method for finding end of time component (digits, colons, period)
+     * that starts at given offset.
+     */
+    static int _timeEnd(char[] ch, int ix, int end)
+    {
+        for (; ix < end; ++ix) {
+            char c = ch[ix];
+            if ((c > '9' || c < '0') && c != ':' && c != '.') {
+                break;
+            }
+        }
+        return ix;
+    }
+
+    /**
+     * Helper method for parsing offset that must span the whole given range:
+     * accepts {@code Z}, {@code +hh:mm} and {@code +hhmm} (with either sign),
+     * as well as {@code +00} if {@code zeroOffsetAsZ} is enabled.
+     *
+     * @return Total offset in seconds, or {@link #NO_OFFSET} if not valid offset
+     */
+    static int _parseOffset(char[] ch, int start, int end, boolean zeroOffsetAsZ)
+    {
+        final int len = end - start;
+        if (len == 1) {
+            return (ch[start] == 'Z') ? 0 : NO_OFFSET;
+        }
+        if (len < 3) {
+            return NO_OFFSET;
+        }
+        final char sign = ch[start];
+        if (sign != '+' && sign != '-') {
+            return NO_OFFSET;
+        }
+        final int hours;
+        final int minutes;
+        switch (len) {
+        case 3:
+            if (zeroOffsetAsZ && sign == '+' && _parse2(ch, start + 1) == 0) {
+                return 0;
+            }
+            return NO_OFFSET;
+        case 5: // +hhmm
+            hours = _parse2(ch, start + 1);
+            minutes = _parse2(ch, start + 3);
+            break;
+        case 6: // +hh:mm
+            if (ch[start + 3] != ':') {
+                return NO_OFFSET;
+            }
+            hours = _parse2(ch, start + 1);
+            minutes = _parse2(ch, start + 4);
+            break;
+        default:
+            return NO_OFFSET;
+        }
+        if (hours < 0 || minutes < 0 || minutes > 59) {
+            return NO_OFFSET;
+        }
+        final int total = hours * 3600 + minutes * 60;
+        if (total > MAX_OFFSET_SECONDS) {
+            return NO_OFFSET;
+        }
+        return (sign == '-') ? -total : total;
+    }
+
+    /**
+     * Helper method for resolving region-based zone id (like {@code Europe/Paris})
+     * that spans the whole given range.
+     *
+     * @return Zone resolved, if id was valid region id; {@code null} if not
+     *    (including offset-based ids, which are left for formatter to handle)
+     */
+    static ZoneId _parseZoneRegion(char[] ch, int start, int end)
+    {
+        if ((start >= end) || !_isAsciiLetter(ch[start])) {
+            return null;
+        }
+        for (int i = start + 1; i < end; ++i) {
+            final char c = ch[i];
+            if (!_isAsciiLetter(c) && (c < '0' || c > '9')
+                    && c != '/' && c != '_' && c != '-' && c != '+') {
+                return null;
+            }
+        }
+        final String id = new String(ch, start, end - start);
+        // Offset-style ids like "UTC+01:00" are parsed differently by formatter
+        if ((id.startsWith("UT") || id.startsWith("GMT"))
+                && !(id.equals("UTC") || id.equals("GMT") || id.equals("UT"))) {
+            return null;
+        }
+        final ZoneId zone;
+        try {
+            zone = ZoneIdCache.zoneId(id);
+        } catch (DateTimeException e) {
+            return null;
+        }
+        return (zone instanceof ZoneOffset) ? null : zone;
+    }
+
+    private static boolean _isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Helper method for checking whether given range contains UTC designator
+     * {@code Z}; or, if {@code zeroOffsetAsZ} enabled, any of {@code +00},
+     * {@code +0000} or {@code +00:00}.
+     */
+    static boolean _isUTC(char[] ch, int start, int end, boolean zeroOffsetAsZ)
+    {
+        final int len = end - start;
+        if (len == 1) {
+            return ch[start] == 'Z';
+        }
+        if (!zeroOffsetAsZ || len < 3 || ch[start] != '+') {
+            return false;
+        }
+        switch (len) {
+        case 3:
+            return _parse2(ch, start + 1) == 0;
+        case 5:
+            return (_parse2(ch, start + 1) == 0) && (_parse2(ch, start + 3) == 0);
+        case 6:
+            return (_parse2(ch, start + 1) == 0) && (ch[start + 3] == ':')
+                    && (_parse2(ch, start + 4) == 0);
+        }
+        return false;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods, helpers
+    /**********************************************************************
+     */
+
+    /**
+     * @return Value of 2 decimal digits at given offset; or -1 if either
+     *    character is not a digit
+     */
+    static int _parse2(char[] ch, int ix)
+    {
+        final int d1 = ch[ix] - '0';
+        final int d2 = ch[ix + 1] - '0';
+        if (d1 < 0 || d1 > 9 || d2 < 0 || d2 > 9) {
+            return -1;
+        }
+        return d1 * 10 + d2;
+    }
+
+    static int _year(int packedDate) {
+        return packedDate >> 9;
+    }
+
+    static int _month(int packedDate) {
+        return (packedDate >> 5) & 0xF;
+    }
+
+    static int _day(int packedDate) {
+        return packedDate & 0x1F;
+    }
+
+    static LocalDateTime _localDateTime(int packedDate, long nanoOfDay)
+    {
+        final int secs = (int) (nanoOfDay / NANOS_PER_SECOND);
+        return LocalDateTime.of(_year(packedDate), _month(packedDate), _day(packedDate),
+                secs / 3600, (secs / 60) % 60, secs % 60,
+                (int) (nanoOfDay % NANOS_PER_SECOND));
+    }
+
+    /**
+     * Same calculation as {@link java.time.LocalDate#toEpochDay()}, but only for
+     * non-negative years, and without constructing {@code LocalDate}.
+     */
+    static long _epochDay(int packedDate)
+    {
+        final long y = _year(packedDate);
+        final int m = _month(packedDate);
+        long total = (365 * y) + ((y + 3) / 4) - ((y + 99) / 100) + ((y + 399) / 400);
+        total += ((367 * m - 362) / 12) + _day(packedDate) - 1;
+        if (m > 2) {
+            --total;
+            if (!_isLeap(_year(packedDate))) {
+                --total;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    static boolean _isLeap(int year) {
+        return ((year & 3) == 0) && ((year % 100) != 0 || (year % 400) == 0);
+    }
+
+    static int _lengthOfMonth(int year, int month)
+    {
+        switch (month) {
+        case 2:
+            return _isLeap(year) ? 29 : 28;
+        case 4:
+        case 6:
+        case 9:
+        case 11:
+            return 30;
+        default:
+            return 31;
+        }
+    }
+}
@@ -0,0 +1,341 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+/**
+ * Helper class for writing textual ISO-8601 representations of date/time values
+ * directly into a {@code char[]} buffer, without going through
+ * {@link java.time.format.DateTimeFormatter} (and without intermediate
+ * {@link String}s). Output is identical to that of matching standard
+ * {@code ISO_xxx} formatters.
+ *<p>
+ * Only years from 0 to 9999 (4-digit years) are supported: write methods return
+ * {@code -1} for values outside that range, in which case caller needs to use
+ * formatter-based handling.
+ *<p>
+ * Caller is responsible for making sure there is enough room in the buffer: at
+ * most {@link #MAX_DATE_TIME_LENGTH} characters are written by any single method
+ * (except for {@link #writeZoneId}).
+ *
+ * @since 2.19
+ */
+public final class IsoDateTimeWriter
+{
+    /**
+     * Maximum number of characters written by date/time write methods:
+     * "yyyy-MM-ddTHH:mm:ss.nnnnnnnnn+hh:mm:ss".
+     */
+    public final static int MAX_DATE_TIME_LENGTH = 38;
+
+    /**
+     * Epoch seconds of {@code 0000-01-01T00:00:00}.
+     */
+    private final static long MIN_SECONDS = -62167219200L;
+
+    /**
+     * Epoch seconds of {@code 9999-12-31T23:59:59}.
+     */
+    private final static long MAX_SECONDS = 253402300799L;
+
+    private final static long SECONDS_PER_DAY = 86400L;
+
+    private final static long DAYS_PER_CYCLE = 146097L;
+
+    private final static long DAYS_0000_TO_1970 = 719528L;
+
+    private IsoDateTimeWriter() { }
+
+    /*
+    /**********************************************************************
+    /* Public API
+    /**********************************************************************
+     */
+
+    /**
+     * Method for writing given instant in format used by
+     * {@link java.time.format.DateTimeFormatter#ISO_INSTANT} (and {@code Instant.toString()}):
+     * fractional seconds are written in groups of 3 digits as needed.
+     *
+     * @return Offset after last character written; or {@code -1} if value out of supported range
+     *    (and nothing was written)
+     */
+    public static int writeInstant(char[] buf, int ix, long epochSecond, int nanos)
+    {
+        return writeInstant(buf, ix, epochSecond, nanos, false);
+    }
+
+    /**
+     * Alternative to {@link #writeInstant(char[], int, long, int)} that can
+     * optionally use {@link DateTimePrefixCache} for date/time part.
+     *
+     * @param cachePrefix Whether to use per-thread {@link DateTimePrefixCache}
+     */
+    public static int writeInstant(char[] buf, int ix, long epochSecond, int nanos,
+            boolean cachePrefix)
+    {
+        if (epochSecond < MIN_SECONDS || epochSecond > MAX_SECONDS) {
+            return -1;
+        }
+        ix = cachePrefix ? DateTimePrefixCache.writePrefix(buf, ix, epochSecond)
+                : _writeLocalDateTime(buf, ix, epochSecond);
+        if (nanos != 0) {
+            buf[ix++] = '.';
+            if ((nanos % 1_000_000) == 0) {
+                ix = _write3(buf, ix, nanos / 1_000_000);
+            } else if ((nanos % 1000) == 0) {
+                ix = _write3(buf, ix, nanos / 1_000_000);
+                ix = _write3(buf, ix, (nanos / 1000) % 1000);
+            } else {
+                ix = _write3(buf, ix, nanos / 1_000_000);
+                ix = _write3(buf, ix, (nanos / 1000) % 1000);
+                ix = _write3(buf, ix, nanos % 1000);
+            }
+        }
+        buf[ix++] = 'Z';
+        return ix;
+    }
+
+    /**
+     * Method for writing date/time of given instant, in given offset,
+     * in format used by {@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}:
+     * seconds are always written, fractional seconds only if non-zero
+     * (with trailing zeroes trimmed), and offset as {@code Z} or {@code +hh:mm[:ss]}.
+     *
+     * @return Offset after last character written; or {@code -1} if value out of supported range
+     *    (and nothing was written)
+     */
+    public static int writeOffsetDateTime(char[] buf, int ix, long epochSecond, int nanos,
+            int offsetSeconds)
+    {
+        return writeOffsetDateTime(buf, ix, epochSecond, nanos, offsetSeconds, false);
+    }
+
+    /**
+     * Alternative to {@link #writeOffsetDateTime(char[], int, long, int, int)} that can
+     * optionally use {@link DateTimePrefixCache} for date/time part.
+     *
+     * @param cachePrefix Whether to use per-thread {@link DateTimePrefixCache}
+     */
+    public static int writeOffsetDateTime(char[] buf, int ix, long epochSecond, int nanos,
+            int offsetSeconds, boolean cachePrefix)
+    {
+        final long localSecond = epochSecond + offsetSeconds;
+        if (localSecond < MIN_SECONDS || localSecond > MAX_SECONDS) {
+            return -1;
+        }
+        ix = cachePrefix ? DateTimePrefixCache.writePrefix(buf, ix, localSecond)
+                : _writeLocalDateTime(buf, ix, localSecond);
+        ix = _writeFraction(buf, ix, nanos);
+        return _writeOffset(buf, ix, offsetSeconds);
+    }
+
+    /**
+     * Method for writing given date in format used by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}
+     * (and {@code LocalDate.toString()}).
+     *
+     * @return Offset after last character written; or {@code -1} if value out of supported range
+     *    (and nothing was written)
+     */
+    public static int writeLocalDate(char[] buf, int ix, int year, int month, int day)
+    {
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        return _writeDate(buf, ix, year, month, day);
+    }
+
+    /**
+     * Method for writing given date/time in format used by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE_TIME}:
+     * seconds are always written, fractional seconds only if non-zero
+     * (with trailing zeroes trimmed).
+     *
+     * @return Offset after last character written; or {@code -1} if value out of supported range
+     *    (and nothing was written)
+     */
+    public static int writeLocalDateTime(char[] buf, int ix, int year, int month, int day,
+            int hour, int minute, int second, int nanos)
+    {
+        if (year < 0 || year > 9999) {
+            return -1;
+        }
+        ix = _writeDate(buf, ix, year, month, day);
+        buf[ix++] = 'T';
+        return writeLocalTime(buf, ix, hour, minute, second, nanos);
+    }
+
+    /**
+     * Method for writing given time in format used by
+     * {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}:
+     * seconds are always written, fractional seconds only if non-zero
+     * (with trailing zeroes trimmed). Note that this differs from
+     * {@code LocalTime.toString()}, which omits zero seconds.
+     *
+     * @return Offset after last character written
+     */
+    public static int writeLocalTime(char[] buf, int ix, int hour, int minute, int second, int nanos)
+    {
+        ix = _writeTime(buf, ix, hour * 3600 + minute * 60 + second);
+        return _writeFraction(buf, ix, nanos);
+    }
+
+    /**
+     * Method for writing zone id suffix used by
+     * {@link java.time.format.DateTimeFormatter#ISO_ZONED_DATE_TIME}:
+     * {@code [zoneId]}.
+     *
+     * @return Offset after last character written; or {@code -1} if there was not
+     *    enough room in the buffer (and nothing was written)
+     */
+    public static int writeZoneId(char[] buf, int ix, String zoneId)
+    {
+        final int len = zoneId.length();
+        if ((ix + len + 2) > buf.length) {
+            return -1;
+        }
+        buf[ix++] = '[';
+        zoneId.getChars(0, len, buf, ix);
+        ix += len;
+        buf[ix++] = ']';
+        return ix;
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Writes {@code yyyy-MM-ddTHH:mm:ss} for given local epoch seconds,
+     * which must be within supported range.
+     */
+    static int _writeLocalDateTime(char[] buf, int ix, long localSecond)
+    {
+        final long epochDay = Math.floorDiv(localSecond, SECONDS_PER_DAY);
+        final int secsOfDay = (int) Math.floorMod(localSecond, SECONDS_PER_DAY);
+        ix = _writeEpochDay(buf, ix, epochDay);
+        buf[ix++] = 'T';
+        return _writeTime(buf, ix, secsOfDay);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd} for given epoch day: same calculation as
+     * {@link java.time.LocalDate#ofEpochDay}, which must be within supported range.
+     */
+    static int _writeEpochDay(char[] buf, int ix, long epochDay)
+    {
+        long zeroDay = epochDay + DAYS_0000_TO_1970;
+        // find the march-based year
+        zeroDay -= 60;  // adjust to 0000-03-01 so leap day is at end of four year cycle
+        long adjust = 0;
+        if (zeroDay < 0) {
+            // adjust negative years to positive for calculation
+            long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+        long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        if (doyEst < 0) {
+            // fix estimate
+            yearEst--;
+            doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+        }
+        yearEst += adjust;  // reset any negative year
+        final int marchDoy0 = (int) doyEst;
+
+        // convert march-based values back to january-based
+        final int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+        final int month = (marchMonth0 + 2) % 12 + 1;
+        final int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+        final int year = (int) (yearEst + marchMonth0 / 10);
+        return _writeDate(buf, ix, year, month, dom);
+    }
+
+    /**
+     * Writes {@code yyyy-MM-dd} for given 4-digit year, month and day.
+     */
+    static int _writeDate(char[] buf, int ix, int year, int month, int dom)
+    {
+        ix = _write2(buf, ix, year / 100);
+        ix = _write2(buf, ix, year % 100);
+        buf[ix++] = '-';
+        ix = _write2(buf, ix, month);
+        buf[ix++] = '-';
+        return _write2(buf, ix, dom);
+    }
+
+    /**
+     * Writes {@code HH:mm:ss} for given second-of-day.
+     */
+    static int _writeTime(char[] buf, int ix, int secsOfDay)
+    {
+        ix = _write2(buf, ix, secsOfDay / 3600);
+        buf[ix++] = ':';
+        ix = _write2(buf, ix, (secsOfDay / 60) % 60);
+        buf[ix++] = ':';
+        return _write2(buf, ix, secsOfDay % 60);
+    }
+
+    /**
+     * Writes fractional seconds the way {@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}
+     * does: nothing for zero; otherwise decimal point followed by 1 - 9 digits,
+     * without trailing zeroes.
+     */
+    static int _writeFraction(char[] buf, int ix, int nanos)
+    {
+        if (nanos != 0) {
+            int digits = 9;
+            while ((nanos % 10) == 0) {
+                nanos /= 10;
+                --digits;
+            }
+            buf[ix++] = '.';
+            for (int i = ix + digits - 1; i >= ix; --i) {
+                buf[i] = (char) ('0' + (nanos % 10));
+                nanos /= 10;
+            }
+            ix += digits;
+        }
+        return ix;
+    }
+
+    /**
+     * Writes offset the way {@link java.time.format.DateTimeFormatterBuilder#appendOffsetId()}
+     * does: {@code Z} for zero offset, {@code +hh:mm} otherwise, with {@code :ss}
+     * appended for non-zero seconds.
+     */
+    static int _writeOffset(char[] buf, int ix, int offsetSeconds)
+    {
+        if (offsetSeconds == 0) {
+            buf[ix++] = 'Z';
+            return ix;
+        }
+        final int abs = Math.abs(offsetSeconds);
+        buf[ix++] = (offsetSeconds < 0) ? '-' : '+';
+        ix = _write2(buf, ix, abs / 3600);
+        buf[ix++] = ':';
+        ix = _write2(buf, ix, (abs / 60) % 60);
+        final int secs = abs % 60;
+        if (secs != 0) {
+            buf[ix++] = ':';
+            ix = _write2(buf, ix, secs);
+        }
+        return ix;
+    }
+
+    static int _write2(char[] buf, int ix, int value)
+    {
+        buf[ix++] = (char) ('0' + (value / 10));
+        buf[ix++] = (char) ('0' + (value % 10));
+        return ix;
+    }
+
+    static int _write3(char[] buf, int ix, int value)
+    {
+        buf[ix++] = (char) ('0' + (value / 100));
+        buf[ix++] = (char) ('0' + ((value / 10) % 10));
+        buf[ix++] = (char) ('0' + (value % 10));
+        return ix;
+    }
+}
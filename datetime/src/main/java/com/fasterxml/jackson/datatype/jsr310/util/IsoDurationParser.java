@@ -0,0 +1,253 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Duration;
+import java.time.Period;
+
+/**
+ * Hand-written single-pass parser for ISO-8601 duration representations
+ * ({@code PnDTnHnMn.nS} for {@link Duration}, {@code PnYnMnWnD} for
+ * {@link Period}), used by deserializers as a fast path instead of
+ * {@link Duration#parse} and {@link Period#parse}, both of which use
+ * regular expression matching.
+ *<p>
+ * Parse methods accept the same grammar as the JDK methods, but only values
+ * of limited magnitude (at most 9 digits per component; 8 for weeks) so that
+ * no overflow checks are needed: for anything else they return {@code null}
+ * and caller is expected to fall back to JDK parsing, both to support
+ * larger values and to get the usual exceptions for invalid ones.
+ *
+ * @since 2.19
+ */
+public final class IsoDurationParser
+{
+    private final static int MAX_DIGITS = 9;
+
+    private final static int MAX_WEEK_DIGITS = 8;
+
+    private final static int[] FRACTION_SCALE = new int[] {
+            0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000,
+            1_000, 100, 10, 1
+    };
+
+    private IsoDurationParser() { }
+
+    /**
+     * Method for parsing content that {@link Duration#parse} would accept.
+     *
+     * @return Parsed value, if content was in supported shape; {@code null} if not
+     */
+    public static Duration parseDuration(String str)
+    {
+        final int end = str.length();
+        int ix = 0;
+        boolean negate = false;
+        if (ix < end) {
+            final char c = str.charAt(ix);
+            if (c == '-' || c == '+') {
+                negate = (c == '-');
+                ++ix;
+            }
+        }
+        if ((ix >= end) || ((str.charAt(ix) | 0x20) != 'p')) {
+            return null;
+        }
+        ++ix;
+        long seconds = 0L;
+        int nanos = 0;
+        boolean any = false;
+        // Components must come in this order, each at most once
+        int nextUnit = 0; // 0 = days, 1 = 'T', 2 = hours, 3 = minutes, 4 = seconds, 5 = done
+        while (ix < end) {
+            char c = str.charAt(ix);
+            if ((c | 0x20) == 't') {
+                if (nextUnit > 1) {
+                    return null;
+                }
+                nextUnit = 2;
+                // 'T' must be followed by at least one component
+                if (++ix == end) {
+                    return null;
+                }
+                continue;
+            }
+            // Component: optional sign, digits, unit
+            boolean negative = false;
+            if (c == '-' || c == '+') {
+                negative = (c == '-');
+                if (++ix == end) {
+                    return null;
+                }
+            }
+            final int digitStart = ix;
+            long value = 0L;
+            for (; ix < end; ++ix) {
+                c = str.charAt(ix);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = (value * 10) + (c - '0');
+            }
+            final int digits = ix - digitStart;
+            if ((digits == 0) || (digits > MAX_DIGITS) || (ix == end)) {
+                return null;
+            }
+            if (negative) {
+                value = -value;
+            }
+            final char unitChar = str.charAt(ix++);
+            final int unit = unitChar | 0x20;
+            if (unit == 'd') {
+                if (nextUnit != 0) {
+                    return null;
+                }
+                seconds += value * 86400L;
+                nextUnit = 1;
+            } else if (unit == 'h') {
+                if (nextUnit != 2) {
+                    return null;
+                }
+                seconds += value * 3600L;
+                nextUnit = 3;
+            } else if (unit == 'm') {
+                if ((nextUnit < 2) || (nextUnit > 3)) {
+                    return null;
+                }
+                seconds += value * 60L;
+                nextUnit = 4;
+            } else if ((unit == 's') || (unitChar == '.') || (unitChar == ',')) {
+                if ((nextUnit < 2) || (nextUnit > 4)) {
+                    return null;
+                }
+                if (unit != 's') { // fraction, 0 to 9 digits
+                    final int fractionStart = ix;
+                    int fraction = 0;
+                    for (; ix < end; ++ix) {
+                        c = str.charAt(ix);
+                        if (c < '0' || c > '9') {
+                            break;
+                        }
+                        fraction = (fraction * 10) + (c - '0');
+                        if (ix - fractionStart == MAX_DIGITS) {
+                            return null;
+                        }
+                    }
+                    if ((ix == end) || ((str.charAt(ix++) | 0x20) != 's')) {
+                        return null;
+                    }
+                    final int fractionDigits = ix - 1 - fractionStart;
+                    if (fractionDigits > 0) {
+                        nanos = fraction * FRACTION_SCALE[fractionDigits];
+                        // Sign of fraction follows that of seconds: but older JDKs
+                        // did not do that for "-0", so leave it to them
+                        if (negative) {
+                            if (value == 0L) {
+                                return null;
+                            }
+                            nanos = -nanos;
+                        }
+                    }
+                }
+                seconds += value;
+                nextUnit = 5;
+            } else {
+                return null;
+            }
+            any = true;
+        }
+        if (!any) {
+            return null;
+        }
+        Duration d = Duration.ofSeconds(seconds, nanos);
+        return negate ? d.negated() : d;
+    }
+
+    /**
+     * Method for parsing content that {@link Period#parse} would accept.
+     *
+     * @return Parsed value, if content was in supported shape; {@code null} if not
+     */
+    public static Period parsePeriod(String str)
+    {
+        final int end = str.length();
+        int ix = 0;
+        int sign = 1;
+        if (ix < end) {
+            final char c = str.charAt(ix);
+            if (c == '-' || c == '+') {
+                sign = (c == '-') ? -1 : 1;
+                ++ix;
+            }
+        }
+        if ((ix >= end) || ((str.charAt(ix) | 0x20) != 'p')) {
+            return null;
+        }
+        if (++ix == end) {
+            return null;
+        }
+        int years = 0, months = 0, days = 0;
+        // Components must come in this order, each at most once
+        int nextUnit = 0; // 0 = years, 1 = months, 2 = weeks, 3 = days, 4 = done
+        while (ix < end) {
+            char c = str.charAt(ix);
+            boolean negative = false;
+            if (c == '-' || c == '+') {
+                negative = (c == '-');
+                if (++ix == end) {
+                    return null;
+                }
+            }
+            final int digitStart = ix;
+            int value = 0;
+            for (; ix < end; ++ix) {
+                c = str.charAt(ix);
+                if (c < '0' || c > '9') {
+                    break;
+                }
+                value = (value * 10) + (c - '0');
+                if (ix - digitStart == MAX_DIGITS) {
+                    return null;
+                }
+            }
+            if ((ix == digitStart) || (ix == end)) {
+                return null;
+            }
+            if (negative) {
+                value = -value;
+            }
+            value *= sign;
+            switch (str.charAt(ix++) | 0x20) {
+            case 'y':
+                if (nextUnit > 0) {
+                    return null;
+                }
+                years = value;
+                nextUnit = 1;
+                break;
+            case 'm':
+                if (nextUnit > 1) {
+                    return null;
+                }
+                months = value;
+                nextUnit = 2;
+                break;
+            case 'w':
+                if ((nextUnit > 2) || (ix - 1 - digitStart > MAX_WEEK_DIGITS)) {
+                    return null;
+                }
+                days = value * 7;
+                nextUnit = 3;
+                break;
+            case 'd':
+                if (nextUnit > 3) {
+                    return null;
+                }
+                days += value;
+                nextUnit = 4;
+                break;
+            default:
+                return null;
+            }
+        }
+        return Period.of(years, months, days);
+    }
+}
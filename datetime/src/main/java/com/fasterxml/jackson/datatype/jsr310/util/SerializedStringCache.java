@@ -0,0 +1,82 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+/**
+ * Simple bounded, lock-free cache of {@link SerializableString}s keyed by
+ * {@code long} (like epoch day of {@link java.time.LocalDate}), used
+ * for reusing textual representations (including their quoted and encoded forms
+ * that {@link SerializedString} retains) of values that repeat frequently.
+ *<p>
+ * Cache is direct-mapped: each key maps to exactly one slot, and a newer entry
+ * simply replaces older one; so memory usage is capped by the size given at
+ * construction, regardless of keys used. Races between threads may lose entries
+ * but never return mismatching ones.
+ *
+ * @since 2.19
+ */
+public final class SerializedStringCache
+{
+    /**
+     * Default number of slots in caches used by serializers.
+     */
+    public final static int DEFAULT_SIZE = 1024;
+
+    private final AtomicReferenceArray<Entry> _entries;
+
+    private final int _mask;
+
+    /**
+     * @param size Number of slots; rounded up to the nearest power of two
+     */
+    public SerializedStringCache(int size) {
+        int actual = Integer.highestOneBit(Math.max(1, size));
+        if (actual < size) {
+            actual <<= 1;
+        }
+        _entries = new AtomicReferenceArray<>(actual);
+        _mask = actual - 1;
+    }
+
+    /**
+     * @return Cached value for given key, if any; {@code null} if not
+     */
+    public SerializableString find(long key) {
+        final Entry entry = _entries.get(_index(key));
+        if ((entry != null) && (entry.key == key)) {
+            return entry.value;
+        }
+        return null;
+    }
+
+    /**
+     * Method for adding given textual value into cache, replacing whatever
+     * entry the slot for key may have had.
+     *
+     * @return {@link SerializableString} constructed for value
+     */
+    public SerializableString add(long key, String value) {
+        final SerializedString str = new SerializedString(value);
+        _entries.lazySet(_index(key), new Entry(key, str));
+        return str;
+    }
+
+    private int _index(long key) {
+        // mix in higher bits, to spread keys that differ by multiples of size
+        return (int) (key ^ (key >>> 32) ^ (key >>> 16)) & _mask;
+    }
+
+    private final static class Entry
+    {
+        final long key;
+        final SerializableString value;
+
+        Entry(long key, SerializableString value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
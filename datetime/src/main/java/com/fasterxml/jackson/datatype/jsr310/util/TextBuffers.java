@@ -0,0 +1,45 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+/**
+ * Helper class for accessing per-thread reusable buffers, used for building
+ * short textual representations (numbers, date/time values) to pass to
+ * {@link com.fasterxml.jackson.core.JsonGenerator} without intermediate
+ * {@link String}s.
+ *<p>
+ * NOTE: buffer contents are only valid until the next call from the same thread,
+ * so buffers must never be retained or used across calls that might re-enter.
+ *
+ * @since 2.19
+ */
+public final class TextBuffers
+{
+    /**
+     * Length of buffers returned: enough for any of textual representations
+     * written by this module.
+     */
+    public final static int BUFFER_LENGTH = 100;
+
+    private final static ThreadLocal<char[]> _charBuffer
+        = ThreadLocal.withInitial(() -> new char[BUFFER_LENGTH]);
+
+    private final static ThreadLocal<byte[]> _byteBuffer
+        = ThreadLocal.withInitial(() -> new byte[BUFFER_LENGTH]);
+
+    private TextBuffers() { }
+
+    /**
+     * @return Reusable {@code char[]} buffer (of length {@link #BUFFER_LENGTH})
+     *    for the current thread
+     */
+    public static char[] charBuffer() {
+        return _charBuffer.get();
+    }
+
+    /**
+     * @return Reusable {@code byte[]} buffer (of length {@link #BUFFER_LENGTH})
+     *    for the current thread
+     */
+    public static byte[] byteBuffer() {
+        return _byteBuffer.get();
+    }
+}
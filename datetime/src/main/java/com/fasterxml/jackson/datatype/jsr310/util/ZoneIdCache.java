@@ -0,0 +1,136 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * Helper class for resolving {@link ZoneId}s and {@link ZoneOffset}s from their
+ * textual representation, with caching: resolution via {@link ZoneId#of(String)}
+ * requires validation, zone rules lookup and allocation, all of which can be
+ * avoided for zone ids seen earlier.
+ *<p>
+ * Most commonly used ids ({@code Z}, {@code UTC}, {@code GMT} and offsets in
+ * quarter-hour increments) are resolved eagerly into fixed lookup tables; other ids
+ * are cached in bounded, concurrent caches as they are encountered.
+ * Results are always same as what {@link ZoneId#of(String)} and
+ * {@link ZoneOffset#of(String)} would return; and failures (exceptions) are not cached.
+ *<p>
+ * In the other direction, textual representations of zones being serialized are
+ * cached as {@link SerializableString}s (retaining their quoted and encoded forms),
+ * along with the {@code [zone-id]} suffix used for region-based zones.
+ *
+ * @since 2.19
+ */
+public final class ZoneIdCache
+{
+    /**
+     * Maximum number of entries in dynamic caches.
+     */
+    private final static int MAX_ENTRIES = 1000;
+
+    private final static Map<String, ZoneId> _fixedZoneIds = new HashMap<>();
+
+    private final static Map<String, ZoneOffset> _fixedZoneOffsets = new HashMap<>();
+    static {
+        _fixedZoneIds.put("Z", ZoneOffset.UTC);
+        _fixedZoneOffsets.put("Z", ZoneOffset.UTC);
+        for (String id : new String[] { "UTC", "GMT", "UT" }) {
+            _fixedZoneIds.put(id, ZoneId.of(id));
+        }
+        // quarter-hour offsets from -18:00 to +18:00
+        for (int quarters = -72; quarters <= 72; ++quarters) {
+            final int abs = Math.abs(quarters);
+            final String id = String.format("%c%02d:%02d", (quarters < 0) ? '-' : '+',
+                    abs / 4, (abs % 4) * 15);
+            _fixedZoneIds.put(id, ZoneId.of(id));
+            _fixedZoneOffsets.put(id, ZoneOffset.of(id));
+        }
+    }
+
+    private final static LRUMap<String, ZoneId> _zoneIds = new LRUMap<>(64, MAX_ENTRIES);
+
+    private final static LRUMap<String, ZoneOffset> _zoneOffsets = new LRUMap<>(16, MAX_ENTRIES);
+
+    private final static LRUMap<ZoneId, ZoneText> _zoneTexts = new LRUMap<>(64, MAX_ENTRIES);
+
+    private ZoneIdCache() { }
+
+    /**
+     * Caching alternative to {@link ZoneId#of(String)}.
+     *
+     * @throws java.time.DateTimeException as per {@link ZoneId#of(String)}
+     */
+    public static ZoneId zoneId(String id)
+    {
+        ZoneId zone = _fixedZoneIds.get(id);
+        if (zone == null) {
+            zone = _zoneIds.get(id);
+            if (zone == null) {
+                zone = ZoneId.of(id);
+                _zoneIds.putIfAbsent(id, zone);
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * Caching alternative to {@link ZoneOffset#of(String)}.
+     *
+     * @throws java.time.DateTimeException as per {@link ZoneOffset#of(String)}
+     */
+    public static ZoneOffset zoneOffset(String id)
+    {
+        ZoneOffset offset = _fixedZoneOffsets.get(id);
+        if (offset == null) {
+            offset = _zoneOffsets.get(id);
+            if (offset == null) {
+                offset = ZoneOffset.of(id);
+                _zoneOffsets.putIfAbsent(id, offset);
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Method for accessing textual representation of given zone (same as
+     * {@link ZoneId#getId()}) to serialize.
+     */
+    public static SerializableString serializedZoneId(ZoneId zone) {
+        return _zoneText(zone).serialized;
+    }
+
+    /**
+     * Method for accessing zone id suffix ({@code "[" + zone.getId() + "]"}) to
+     * append to textual representation of {@link java.time.ZonedDateTime}.
+     */
+    public static String zoneIdSuffix(ZoneId zone) {
+        return _zoneText(zone).suffix;
+    }
+
+    private static ZoneText _zoneText(ZoneId zone)
+    {
+        ZoneText text = _zoneTexts.get(zone);
+        if (text == null) {
+            text = new ZoneText(zone.getId());
+            _zoneTexts.putIfAbsent(zone, text);
+        }
+        return text;
+    }
+
+    private final static class ZoneText
+    {
+        final SerializableString serialized;
+        final String suffix;
+
+        ZoneText(String id) {
+            serialized = new SerializedString(id);
+            suffix = "[" + id + "]";
+        }
+    }
+}
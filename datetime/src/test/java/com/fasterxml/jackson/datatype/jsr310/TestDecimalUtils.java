@@ -1,11 +1,16 @@
 package com.fasterxml.jackson.datatype.jsr310;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
 import java.math.BigDecimal;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestDecimalUtils extends ModuleTestBase
@@ -100,4 +105,87 @@ public class TestDecimalUtils extends ModuleTestBase
         BigDecimal value = new BigDecimal("1e10000000");
         checkExtractSecondsAndNanos(0L, 0, value);
     }
+
+    @Test
+    public void testExtractFromText()
+    {
+        for (String input : new String[] {
+                "0.0", "-0.0", "15.000000072", "19827342231.999999999",
+                "-22704862.599000000", "-1.000000001", "1.", ".5", "-.5", "+2.25",
+                "0.0000000009", "123.4567890123", "-31557014167219201.5",
+                "999999999999999999.999999999"
+        }) {
+            char[] ch = input.toCharArray();
+            assertTrue(DecimalUtils.canExtractSecondsAndNanos(ch, 0, ch.length), input);
+            for (boolean negativeAdjustment : new boolean[] { true, false }) {
+                long[] exp = DecimalUtils.extractSecondsAndNanos(new BigDecimal(input),
+                        (s, ns) -> new long[] { s, ns }, negativeAdjustment);
+                assertEquals(exp[0], DecimalUtils.extractSeconds(ch, 0, ch.length), input);
+                assertEquals(exp[1], DecimalUtils.extractNanos(ch, 0, ch.length, negativeAdjustment), input);
+            }
+        }
+    }
+
+    @Test
+    public void testCannotExtractFromText()
+    {
+        for (String input : new String[] {
+                "", "-", ".", "-.", "1e10", "1.5E-3", "1.2.3", "NaN", "1 ",
+                "1234567890123456789.5"
+        }) {
+            char[] ch = input.toCharArray();
+            assertFalse(DecimalUtils.canExtractSecondsAndNanos(ch, 0, ch.length), input);
+        }
+    }
+
+    @Test
+    public void testWriteDecimal() throws Exception
+    {
+        final long[][] values = new long[][] {
+            { 0L, 0 }, { 0L, 5 }, { 0L, 999 }, { 0L, 1000 }, { 0L, 120000000 },
+            { 1L, 0 }, { 15L, 72 }, { -1L, 500000000 }, { -22704862L, 599000000 },
+            { 19827342231L, 999999999 }, { Long.MIN_VALUE, 1 }, { Long.MAX_VALUE, 0 }
+        };
+        for (long[] value : values) {
+            final long secs = value[0];
+            final int nanos = (int) value[1];
+            BigDecimal bd = DecimalUtils.toBigDecimal(secs, nanos);
+            // both char- and byte-backed generators
+            for (boolean bytes : new boolean[] { false, true }) {
+                assertEquals(_write(g -> g.writeNumber(bd), bytes),
+                        _write(g -> DecimalUtils.writeDecimal(g, secs, nanos, false), bytes));
+                if (secs >= 0L) {
+                    assertEquals(_write(g -> g.writeNumber(bd.negate()), bytes),
+                            _write(g -> DecimalUtils.writeDecimal(g, secs, nanos, true), bytes));
+                }
+            }
+        }
+    }
+
+    private interface GeneratorCall {
+        void call(JsonGenerator g) throws IOException;
+    }
+
+    private String _write(GeneratorCall call, boolean bytes) throws IOException
+    {
+        if (bytes) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (JsonGenerator g = newMapper().createGenerator(out)) {
+                _write(g, call);
+            }
+            return out.toString("UTF-8");
+        }
+        StringWriter sw = new StringWriter();
+        try (JsonGenerator g = newMapper().createGenerator(sw)) {
+            _write(g, call);
+        }
+        return sw.toString();
+    }
+
+    private void _write(JsonGenerator g, GeneratorCall call) throws IOException
+    {
+        g.writeStartArray();
+        call.call(g);
+        g.writeEndArray();
+    }
 }
@@ -611,6 +611,25 @@ public class InstantDeserTest extends ModuleTestBase
         assertThrows(MismatchedInputException.class, () -> objectReader.readValue(valueFromEmptyStr));
     }
     
+    // Values parsed directly from parser text buffer, from both byte- and char-backed
+    // parsers; including surrounding whitespace
+    @Test
+    public void testDeserializationFromTextBuffer() throws Exception
+    {
+        final Instant exp = Instant.parse("2020-05-06T07:08:09.123Z");
+        final String json = a2q("[' 2020-05-06T07:08:09.123Z','2020-05-06T07:08:09.123+00:00\\n']");
+        final ObjectReader r = MAPPER.readerFor(Instant[].class);
+
+        assertArrayEquals(new Instant[] { exp, exp }, r.readValue(json));
+        assertArrayEquals(new Instant[] { exp, exp }, r.readValue(json.getBytes("UTF-8")));
+
+        // and then with adjustment
+        OffsetDateTime odt = MAPPER.readerFor(OffsetDateTime.class)
+                .with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE)
+                .readValue(q("2020-05-06T07:08:09+02:00").getBytes("UTF-8"));
+        assertEquals(OffsetDateTime.parse("2020-05-06T05:08:09Z"), odt);
+    }
+
     /*
     /************************************************************************
     /* Tests for InstantDeserializer.ISO8601_COLONLESS_OFFSET_REGEX
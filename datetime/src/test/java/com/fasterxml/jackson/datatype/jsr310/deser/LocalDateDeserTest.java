@@ -579,6 +579,48 @@ public class LocalDateDeserTest extends ModuleTestBase
         assertTrue(exception.getMessage().contains("Cannot coerce empty String (\"\") to `java.time.LocalDate`"));
     }
 
+    // Values parsed directly from parser text buffer, from both byte- and char-backed
+    // parsers; including surrounding whitespace
+    @Test
+    public void testDeserializationFromTextBuffer() throws Exception
+    {
+        final LocalDate exp = LocalDate.of(2020, Month.FEBRUARY, 29);
+        final String json = a2q("[' 2020-02-29','2020-02-29T12:00:00Z ']");
+        final ObjectReader r = MAPPER.readerFor(LocalDate[].class);
+
+        assertArrayEquals(new LocalDate[] { exp, exp }, r.readValue(json));
+        assertArrayEquals(new LocalDate[] { exp, exp }, r.readValue(json.getBytes("UTF-8")));
+
+        // but strict mode must still fail on time component
+        ObjectMapper strictMapper = newMapper();
+        strictMapper.configOverride(LocalDate.class)
+                .setFormat(JsonFormat.Value.forLeniency(false));
+        assertThrows(MismatchedInputException.class,
+                () -> strictMapper.readValue(q("2020-02-29T12:00:00").getBytes("UTF-8"),
+                        LocalDate.class));
+    }
+
+    @Test
+    public void testDeserializationWithInterning() throws Exception
+    {
+        ObjectReader r = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.INTERN_DESERIALIZED_DATES))
+                .build()
+                .readerFor(LocalDate[].class);
+        LocalDate[] dates = r.readValue(a2q("['2020-05-06','2020-05-07',[2020,5,6],'2020-05-06']"));
+        assertEquals(LocalDate.of(2020, 5, 6), dates[0]);
+        assertEquals(LocalDate.of(2020, 5, 7), dates[1]);
+        assertSame(dates[0], dates[2]);
+        assertSame(dates[0], dates[3]);
+        // and across calls too
+        assertSame(dates[1], r.forType(LocalDate.class).readValue(q("2020-05-07")));
+        // dates within about 11 years of each other do not evict each other
+        LocalDate[] spread = r.readValue(a2q("['2020-05-06','2028-05-06','2020-05-06','2028-05-06']"));
+        assertSame(dates[0], spread[0]);
+        assertSame(spread[0], spread[2]);
+        assertSame(spread[1], spread[3]);
+    }
+
     /*
     /**********************************************************************
     /* Helper methods
@@ -603,5 +645,4 @@ public class LocalDateDeserTest extends ModuleTestBase
         assertNotNull(value);
         assertEquals(exp, value);
     }
-
 }
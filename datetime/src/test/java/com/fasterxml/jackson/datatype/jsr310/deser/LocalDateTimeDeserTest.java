@@ -97,6 +97,11 @@ public class LocalDateTimeDeserTest
         public StrictWrapperWithYearWithoutEra(LocalDateTime v) { value = v; }
     }
 
+    final static class PatternWrapper {
+        @JsonFormat(pattern="uuuu-MM-dd HH:mm")
+        public LocalDateTime value;
+    }
+
     static class WrapperWithReadTimestampsAsNanosDisabled {
         @JsonFormat(
             without=Feature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS
@@ -671,6 +676,20 @@ public class LocalDateTimeDeserTest
             () -> /*StrictWrapperWithYearWithoutEra w =*/ MAPPER.readValue("{\"value\":\"2019-11-30 25:45\"}", StrictWrapperWithYearWithoutEra.class));
     }
 
+    // Values "smart" resolution would adjust must be handled same as before
+    @Test
+    public void testCustomFormatWithSmartResolution() throws Exception
+    {
+        assertEquals(LocalDateTime.of(2019, 11, 30, 15, 45),
+                MAPPER.readValue(a2q("{'value':'2019-11-30 15:45'}"), PatternWrapper.class).value);
+        assertEquals(LocalDateTime.of(2019, 11, 30, 15, 45),
+                MAPPER.readValue(a2q("{'value':' 2019-11-31 15:45 '}"), PatternWrapper.class).value);
+        assertEquals(LocalDateTime.of(2019, 12, 1, 0, 0),
+                MAPPER.readValue(a2q("{'value':'2019-11-30 24:00'}"), PatternWrapper.class).value);
+        assertThrows(InvalidFormatException.class,
+            () -> MAPPER.readValue(a2q("{'value':'2019-11-32 15:45'}"), PatternWrapper.class));
+    }
+
     @Test
     public void testStrictCustomFormatForInvalidDateWithoutEra() throws Exception
     {
@@ -846,6 +846,48 @@ public class OffsetDateTimeDeserTest
         }
     }
 
+    // Context zone is resolved once and reused, but must follow changes
+    @Test
+    public void testDeserializationWithChangingContextTimeZone() throws Exception
+    {
+        final String json = q("2020-05-06T07:08:09+01:00");
+        ObjectReader r = MAPPER.readerFor(OffsetDateTime.class)
+                .with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        TimeZone fixed = TimeZone.getTimeZone("GMT+03:00");
+        TimeZone region = TimeZone.getTimeZone("America/Chicago");
+        for (int i = 0; i < 2; ++i) {
+            OffsetDateTime value = r.with(fixed).readValue(json);
+            assertEquals(OffsetDateTime.parse("2020-05-06T09:08:09+03:00"), value);
+            value = r.with(region).readValue(json);
+            assertEquals(OffsetDateTime.parse("2020-05-06T01:08:09-05:00"), value);
+        }
+        // TimeZone is mutable, so changes to same instance must be noticed too
+        TimeZone mutable = (TimeZone) fixed.clone();
+        r = r.with(mutable);
+        assertEquals(ZoneOffset.ofHours(3), r.<OffsetDateTime>readValue(json).getOffset());
+        mutable.setID("UTC");
+        assertEquals(ZoneOffset.UTC, r.<OffsetDateTime>readValue(json).getOffset());
+    }
+
+    // Input settings are resolved per configuration, so must follow changes to it
+    @Test
+    public void testDeserializationWithChangingReaderFeatures() throws Exception
+    {
+        final String json = q("2020-05-06T07:08:09+01:00");
+        ObjectReader r = MAPPER.readerFor(OffsetDateTime.class)
+                .with(TimeZone.getTimeZone("UTC"));
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(OffsetDateTime.parse("2020-05-06T06:08:09Z"),
+                    r.with(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE).readValue(json));
+            assertEquals(OffsetDateTime.parse("2020-05-06T07:08:09+01:00"),
+                    r.without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE).readValue(json));
+            assertEquals(OffsetDateTime.parse("1970-01-01T00:00:01Z"),
+                    r.with(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS).readValue("1"));
+            assertEquals(OffsetDateTime.parse("1970-01-01T00:00:00.001Z"),
+                    r.without(DeserializationFeature.READ_DATE_TIMESTAMPS_AS_NANOSECONDS).readValue("1"));
+        }
+    }
+
     private void _testOffsetDateTimeMinOrMax(OffsetDateTime offsetDateTime)
         throws Exception
     {
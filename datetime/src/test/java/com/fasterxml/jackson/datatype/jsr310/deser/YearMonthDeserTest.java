@@ -17,6 +17,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -169,4 +172,18 @@ public class YearMonthDeserTest extends ModuleTestBase
     private static void expect(Object exp, Object value) {
         assertEquals(exp, value, "The value is not correct.");
     }
+
+    @Test
+    public void testDeserializationWithInterning() throws Exception
+    {
+        ObjectReader r = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.INTERN_DESERIALIZED_DATES))
+                .build()
+                .readerFor(YearMonth[].class);
+        YearMonth[] values = r.readValue(a2q("['3000-01',[3000,1],'2020-05',[2020,5]]"));
+        assertEquals(YearMonth.of(3000, 1), values[0]);
+        assertSame(values[0], values[1]);
+        assertEquals(YearMonth.of(2020, 5), values[2]);
+        assertSame(values[2], values[3]);
+    }
 }
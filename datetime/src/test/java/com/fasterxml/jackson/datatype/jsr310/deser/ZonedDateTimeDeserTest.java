@@ -316,6 +316,25 @@ public class ZonedDateTimeDeserTest extends ModuleTestBase
         }
     }
 
+    // Offsets that do not match zone id are resolved differently by JDK 8 and
+    // later formatters: results must match whatever running JDK does
+    @Test
+    public void testDeserializationWithOffsetNotMatchingZone() throws Exception
+    {
+        ObjectReader r = newMapper().readerFor(ZonedDateTime.class)
+                .without(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+        for (String input : Arrays.asList(
+                "2020-06-01T10:00:00+00:00[Europe/Paris]",
+                "2020-11-01T01:30:00-05:00[America/New_York]",
+                "2020-03-29T02:30:00+01:00[Europe/Paris]")) {
+            ZonedDateTime expected = ZonedDateTime.parse(input);
+            assertEquals(expected, r.readValue(q(input)), input);
+            Map<ZonedDateTime, String> map = newMapper().readValue(a2q("{'" + input + "':'x'}"),
+                    new TypeReference<Map<ZonedDateTime, String>>() { });
+            assertEquals(expected, map.keySet().iterator().next(), input);
+        }
+    }
+
     private void expectFailure(String json) throws Throwable {
         try {
             READER.readValue(a2q(json));
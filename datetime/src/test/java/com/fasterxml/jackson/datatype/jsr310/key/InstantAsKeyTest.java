@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -34,6 +38,27 @@ public class InstantAsKeyTest extends ModuleTestBase
         assertEquals(mapAsString(INSTANT_STRING, "test"), value);
     }
 
+    @Test
+    public void testSerializationAsTimestamps() throws Exception {
+        // only with module feature enabled; otherwise keys are textual as before
+        ObjectMapper mapper = mapperBuilder().enable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS).build();
+        assertEquals(mapAsString(INSTANT_STRING, "test"), mapper.writeValueAsString(asMap(INSTANT, "test")));
+
+        mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES))
+                .enable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                .build();
+        assertEquals(mapAsString("1426325213.590000000", "test"),
+                mapper.writeValueAsString(asMap(INSTANT, "test")));
+        assertEquals(mapAsString("0.0", "test"), mapper.writeValueAsString(asMap(INSTANT_0, "test")));
+        assertEquals(mapAsString("1426325213590", "test"),
+                mapper.writer().without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                    .writeValueAsString(asMap(INSTANT, "test")));
+        assertEquals(mapAsString(INSTANT_STRING, "test"),
+                mapper.writer().without(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                    .writeValueAsString(asMap(INSTANT, "test")));
+    }
+
     @Test
     public void testDeserialization0() throws Exception {
         Map<Instant, String> value = READER.readValue(mapAsString(INSTANT_0_STRING, "test"));
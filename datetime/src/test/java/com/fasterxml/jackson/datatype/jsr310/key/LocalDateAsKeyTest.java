@@ -8,6 +8,10 @@ import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -26,6 +30,30 @@ public class LocalDateAsKeyTest extends ModuleTestBase
                 MAPPER.writeValueAsString(asMap(DATE, "test")));
     }
 
+    @Test
+    public void testSerializationWithCachedStrings() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DATE_STRINGS))
+                .build();
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(mapAsString(DATE_STRING, "test"),
+                    mapper.writeValueAsString(asMap(DATE, "test")));
+        }
+    }
+
+    @Test
+    public void testSerializationAsEpochDays() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS_FOR_ALL_TYPES))
+                .enable(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                .build();
+        assertEquals(mapAsString(String.valueOf(DATE.toEpochDay()), "test"),
+                mapper.writeValueAsString(asMap(DATE, "test")));
+        assertEquals(mapAsString(DATE_STRING, "test"),
+                mapper.writer().without(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                    .writeValueAsString(asMap(DATE, "test")));
+    }
+
     @Test
     public void testDeserialization() throws Exception {
         assertEquals(asMap(DATE, "test"), READER.readValue(mapAsString(DATE_STRING, "test")));
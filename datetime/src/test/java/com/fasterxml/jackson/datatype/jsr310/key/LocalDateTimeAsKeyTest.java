@@ -12,6 +12,10 @@ import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.deser.DeserializationProblemHandler;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,4 +82,32 @@ public class LocalDateTimeAsKeyTest extends ModuleTestBase
         
         assertEquals(asMap(now, "test"), value);
     }
+
+    @Test
+    public void testDeserializationWithValueCache() throws Throwable
+    {
+        LocalDateTime now = LocalDateTime.now();
+        DeserializationProblemHandler handler = new DeserializationProblemHandler() {
+            @Override
+            public Object handleWeirdKey(DeserializationContext ctxt, Class<?> targetType,
+                   String valueToConvert, String failureMsg) throws IOException {
+                return "now".equals(valueToConvert) ? now : NOT_HANDLED;
+            }
+        };
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DESERIALIZED_MAP_KEYS))
+                .build();
+        ObjectReader r = mapper.readerFor(TYPE_REF);
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(asMap(DATE_TIME, "test"), r.readValue(mapAsString(DATE_TIME_STRING, "test")));
+            assertEquals(asMap(DATE_TIME_0, "test"), r.readValue(mapAsString(DATE_TIME_0_STRING, "test")));
+            // non-canonical representation, not cached but fine
+            assertEquals(asMap(DATE_TIME_0, "test"), r.readValue(mapAsString("1970-01-01T00:00:00", "test")));
+            assertEquals(asMap(now, "test"),
+                    r.withHandler(handler).readValue(mapAsString("now", "test")));
+        }
+        // values from handler must not be cached
+        assertThrows(InvalidFormatException.class,
+                () -> r.readValue(mapAsString("now", "test")));
+    }
 }
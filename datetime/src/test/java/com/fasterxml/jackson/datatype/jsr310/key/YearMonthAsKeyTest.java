@@ -8,6 +8,9 @@ import org.junit.jupiter.api.Test;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,6 +28,20 @@ public class YearMonthAsKeyTest extends ModuleTestBase
                 "Value is incorrect");
     }
 
+    @Test
+    public void testSerializationWithCachedStrings() throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DATE_STRINGS))
+                .build();
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(mapAsString("2024-02", "test"),
+                    mapper.writeValueAsString(asMap(YearMonth.of(2024, 2), "test")));
+            // outside of cached range
+            assertEquals(mapAsString("3141-05", "test"),
+                    mapper.writeValueAsString(asMap(YearMonth.of(3141, 5), "test")));
+        }
+    }
+
     @Test
     public void testDeserialization() throws Exception {
         assertEquals(asMap(YearMonth.of(3141, 5), "test"),
@@ -20,10 +20,14 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.DecimalUtils;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.MockObjectConfiguration;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 import java.time.Instant;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.Temporal;
 
@@ -181,4 +185,50 @@ public class InstantSerTest extends ModuleTestBase
         String json1 = newMapper().writeValueAsString(new Pojo1());
         assertEquals("{\"t1\":1651060800000,\"t2\":1651060800.000000000}", json1);
     }
+
+    @Test
+    public void testSerializationWithPrefixCache() throws Exception
+    {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_ISO_DATE_TIME_PREFIX))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        final Instant first = Instant.parse("2024-05-06T07:08:09.001Z");
+        Instant[] values = new Instant[] {
+                first, first.plusMillis(500), first.plusNanos(1), first.plusSeconds(1),
+                first.minusMillis(2), first
+        };
+        final String exp = "[\"2024-05-06T07:08:09.001Z\",\"2024-05-06T07:08:09.501Z\","
+                +"\"2024-05-06T07:08:09.001000001Z\",\"2024-05-06T07:08:10.001Z\","
+                +"\"2024-05-06T07:08:08.999Z\",\"2024-05-06T07:08:09.001Z\"]";
+        // per-thread cache may hold anything from earlier writes: output must not depend on it
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(exp, mapper.writeValueAsString(values));
+        }
+    }
+
+    static class PatternPojo {
+        @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyyMMdd'T'HHmmss.SSSXX",
+                timezone = "America/New_York")
+        public Instant value;
+
+        PatternPojo(Instant v) { value = v; }
+    }
+
+    // Patterns with numeric fields only are written without formatter; must
+    // produce same output, including zone conversion
+    @Test
+    public void testSerializationWithNumericPattern() throws Exception
+    {
+        final DateTimeFormatter f = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss.SSSXX")
+                .withZone(ZoneId.of("America/New_York"));
+        for (String input : new String[] {
+                "2024-03-10T06:59:59.999Z", "2024-03-10T07:00:00Z", "2024-11-03T05:30:00.5Z",
+                "0001-01-01T00:00:00Z", "+10000-01-01T00:00:00Z"
+        }) {
+            final Instant value = Instant.parse(input);
+            assertEquals(a2q("{'value':'" + f.format(value) + "'}"),
+                    MAPPER.writeValueAsString(new PatternPojo(value)), input);
+        }
+    }
 }
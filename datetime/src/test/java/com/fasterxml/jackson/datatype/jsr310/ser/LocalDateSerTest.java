@@ -18,6 +18,7 @@ package com.fasterxml.jackson.datatype.jsr310.ser;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.time.YearMonth;
 import java.time.temporal.Temporal;
 
 import org.junit.jupiter.api.Test;
@@ -27,6 +28,9 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.MockObjectConfiguration;
 import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
 
@@ -184,4 +188,33 @@ public class LocalDateSerTest
         assertNotNull(date);
         assertEquals(LocalDate.ofEpochDay(1000), date);
     }
+
+    @Test
+    public void testSerializationWithStringCache() throws Exception
+    {
+        ObjectMapper mapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DATE_STRINGS))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Object[] values = new Object[] {
+                LocalDate.of(2024, 2, 29), LocalDate.of(2024, 2, 29), LocalDate.of(1900, 1, 1),
+                LocalDate.of(2024, 2, 29), LocalDate.of(12345, 6, 7),
+                YearMonth.of(2024, 2), YearMonth.of(2024, 2), YearMonth.of(-5, 12)
+        };
+        final String exp = "[\"2024-02-29\",\"2024-02-29\",\"1900-01-01\",\"2024-02-29\",\"+12345-06-07\","
+                +"\"2024-02\",\"2024-02\",\"-0005-12\"]";
+        // both for String- and byte-backed output, and repeated to use cached values
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(exp, mapper.writeValueAsString(values));
+            assertEquals(exp, new String(mapper.writeValueAsBytes(values), "UTF-8"));
+        }
+        // but explicit pattern must not use cache
+        ObjectMapper patternMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule().enable(JavaTimeFeature.CACHE_DATE_STRINGS))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .withConfigOverride(LocalDate.class,
+                        o -> o.setFormat(JsonFormat.Value.forPattern("dd.MM.yyyy")))
+                .build();
+        assertEquals("\"29.02.2024\"", patternMapper.writeValueAsString(LocalDate.of(2024, 2, 29)));
+    }
 }
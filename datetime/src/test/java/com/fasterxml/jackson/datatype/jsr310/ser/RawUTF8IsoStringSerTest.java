@@ -0,0 +1,87 @@
+package com.fasterxml.jackson.datatype.jsr310.ser;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.io.CharacterEscapes;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RawUTF8IsoStringSerTest extends ModuleTestBase
+{
+    private final ObjectMapper DEFAULT_MAPPER = newMapper();
+
+    private final ObjectMapper RAW_MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule().enable(JavaTimeFeature.WRITE_ISO_STRINGS_AS_RAW_UTF8))
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final Object[] VALUES = new Object[] {
+            Instant.parse("2024-05-06T07:08:09.120Z"),
+            OffsetDateTime.parse("2024-05-06T07:08:09.123456+02:00"),
+            ZonedDateTime.parse("2024-05-06T07:08:09-05:00"),
+            LocalDate.of(2024, 2, 29),
+            LocalDateTime.of(2024, 2, 29, 12, 0),
+            LocalTime.of(23, 59, 59, 1),
+            // outside of range handled with direct writes
+            LocalDate.of(12345, 1, 1),
+    };
+
+    @Test
+    public void testSameOutput() throws Exception
+    {
+        final ObjectMapper defaultMapper = DEFAULT_MAPPER.copy()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        for (Object value : VALUES) {
+            String exp = defaultMapper.writeValueAsString(value);
+            assertEquals(exp, new String(RAW_MAPPER.writeValueAsBytes(value), StandardCharsets.UTF_8));
+            assertEquals(exp, RAW_MAPPER.writeValueAsString(value));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            RAW_MAPPER.writeValue(bytes, new Object[] { value, value });
+            assertEquals("["+exp+","+exp+"]", bytes.toString("UTF-8"));
+        }
+    }
+
+    @Test
+    public void testWithZoneId() throws Exception
+    {
+        ZonedDateTime value = ZonedDateTime.of(2024, 5, 6, 7, 8, 9, 0, Z_CHICAGO);
+        ObjectMapper mapper = RAW_MAPPER.copy()
+                .enable(SerializationFeature.WRITE_DATES_WITH_ZONE_ID);
+        assertEquals(q("2024-05-06T07:08:09-05:00[America/Chicago]"),
+                new String(mapper.writeValueAsBytes(value), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWithCharacterEscapes() throws Exception
+    {
+        // custom escapes must still be honored
+        ObjectMapper mapper = RAW_MAPPER.copy();
+        mapper.getFactory().setCharacterEscapes(new CharacterEscapes() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            public int[] getEscapeCodesForAscii() {
+                int[] esc = standardAsciiEscapesForJSON();
+                esc['-'] = CharacterEscapes.ESCAPE_STANDARD;
+                return esc;
+            }
+
+            @Override
+            public com.fasterxml.jackson.core.SerializableString getEscapeSequence(int ch) {
+                return null;
+            }
+        });
+        assertEquals(q("2024\\u002D02\\u002D29"),
+                new String(mapper.writeValueAsBytes(LocalDate.of(2024, 2, 29)), StandardCharsets.UTF_8));
+    }
+}
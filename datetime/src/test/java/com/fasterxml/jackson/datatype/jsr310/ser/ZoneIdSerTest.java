@@ -16,7 +16,10 @@
 
 package com.fasterxml.jackson.datatype.jsr310.ser;
 
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
@@ -48,6 +51,20 @@ public class ZoneIdSerTest extends ModuleTestBase
         assertEquals("\"America/Anchorage\"", value);
     }
 
+    // Cached representations must work the same for all output targets
+    @Test
+    public void testSerializationRepeated() throws Exception
+    {
+        final Object[] zones = new Object[] { ZoneId.of("Europe/Helsinki"), ZoneOffset.ofHours(2),
+                ZoneId.of("Europe/Helsinki"), ZoneId.of("UTC+02:00"), ZoneOffset.ofHours(2) };
+        final String exp = "[\"Europe/Helsinki\",\"+02:00\",\"Europe/Helsinki\",\"UTC+02:00\",\"+02:00\"]";
+        for (int i = 0; i < 2; ++i) {
+            assertEquals(exp, MAPPER.writeValueAsString(Arrays.asList(zones)));
+            assertEquals(exp, new String(MAPPER.writeValueAsBytes(Arrays.asList(zones)),
+                    StandardCharsets.UTF_8));
+        }
+    }
+
     @Test
     public void testSerializationWithTypeInfo01() throws Exception
     {
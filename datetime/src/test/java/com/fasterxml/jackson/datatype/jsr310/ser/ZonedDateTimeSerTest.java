@@ -25,6 +25,7 @@ import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.Temporal;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.TimeZone;
 
@@ -83,6 +84,16 @@ public class ZonedDateTimeSerTest
         public WrapperNumeric(ZonedDateTime v) { value = v; }
     }
 
+    final static class WrapperWithZoneId {
+        @JsonFormat(pattern="yyyy-MM-dd HH:mm",
+                shape=JsonFormat.Shape.STRING,
+                with=JsonFormat.Feature.WRITE_DATES_WITH_ZONE_ID)
+        public ZonedDateTime value;
+
+        public WrapperWithZoneId() { }
+        public WrapperWithZoneId(ZonedDateTime v) { value = v; }
+    }
+
     private final ObjectMapper MAPPER = newMapper();
 
     @Test
@@ -299,6 +310,55 @@ public class ZonedDateTimeSerTest
         assertEquals("\"" + date.withZoneSameInstant(Z2).format(FORMATTER_WITHOUT_ZONEID) + "\"", value);
     }
 
+    // Formatter with context time zone is reused, but must follow changes of time zone
+    @Test
+    public void testSerializationWithChangingContextTimeZoneAndACustomFormatter() throws Exception {
+        ZonedDateTime date = ZonedDateTime.now(Z3);
+        ObjectMapper mapper = mapperBuilder()
+                .addModule(new SimpleModule().addSerializer(new ZonedDateTimeSerializer(FORMATTER_WITHOUT_ZONEID)))
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.WRITE_DATES_WITH_CONTEXT_TIME_ZONE)
+                .build();
+        for (int i = 0; i < 2; ++i) {
+            for (ZoneId zone : new ZoneId[] { Z1, Z2, ZoneOffset.UTC }) {
+                String value = mapper.writer()
+                        .with(TimeZone.getTimeZone(zone))
+                        .writeValueAsString(date);
+                assertEquals("\"" + date.withZoneSameInstant(zone).format(FORMATTER_WITHOUT_ZONEID) + "\"", value);
+            }
+        }
+    }
+
+    // Output settings are resolved per configuration, so must follow changes to it
+    @Test
+    public void testSerializationWithChangingWriterFeatures() throws Exception {
+        ZonedDateTime date = ZonedDateTime.of(2020, 5, 6, 7, 8, 9, 123456789, Z1);
+        ObjectMapper mapper = newMapper();
+        for (int i = 0; i < 2; ++i) {
+            assertEquals("1588766889.123456789", mapper.writer()
+                    .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .writeValueAsString(date));
+            assertEquals("1588766889123", mapper.writer()
+                    .with(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                    .writeValueAsString(date));
+            assertEquals("\"2020-05-06T07:08:09.123456789-05:00\"", mapper.writer()
+                    .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .writeValueAsString(date));
+            assertEquals("\"2020-05-06T07:08:09.123456789-05:00[" + Z1.getId() + "]\"", mapper.writer()
+                    .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                    .with(SerializationFeature.WRITE_DATES_WITH_ZONE_ID)
+                    .writeValueAsString(date));
+            assertEquals(a2q("{'2020-05-06T07:08:09.123456789-05:00':1}"), mapper.writer()
+                    .without(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                    .writeValueAsString(Collections.singletonMap(date, 1)));
+            assertEquals(a2q("{'1588766889123':1}"), mapper.writer()
+                    .with(SerializationFeature.WRITE_DATE_KEYS_AS_TIMESTAMPS)
+                    .without(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                    .writeValueAsString(Collections.singletonMap(date, 1)));
+        }
+    }
+
     @Test
     public void testSerializationAsStringWithDefaultTimeZoneAndContextTimeZoneOffAndACustomFormatter() throws Exception {
         ZonedDateTime date = ZonedDateTime.now(Z3);
@@ -963,6 +1023,14 @@ public class ZonedDateTimeSerTest
         assertEquals(original, deserialized);
     }
 
+    // Zone id suffix must be appended to pattern-formatted values too
+    @Test
+    public void testSerializationWithPatternAndZoneId() throws Exception {
+        ZonedDateTime date = ZonedDateTime.parse("2024-11-15T18:27:06.921054+01:00[Europe/Berlin]");
+        assertEquals(a2q("{'value':'2024-11-15 18:27[Europe/Berlin]'}"),
+                MAPPER.writeValueAsString(new WrapperWithZoneId(date)));
+    }
+
     static class Pojo1 {
         @JsonFormat(shape = JsonFormat.Shape.NUMBER_INT)
         public ZonedDateTime t1 = ZonedDateTime.parse("2022-04-27T12:00:00+02:00[Europe/Paris]");
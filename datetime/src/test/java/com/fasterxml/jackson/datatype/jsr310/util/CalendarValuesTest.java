@@ -0,0 +1,64 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.MonthDay;
+import java.time.Year;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarValuesTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testSameAsJDK() {
+        for (String input : new String[] { "2020", "0000", "0999", "1900", "2199", "9999" }) {
+            assertEquals(Year.parse(input), CalendarValues.parseYear(input), input);
+        }
+        for (String input : new String[] { "2020-01", "2020-12", "0001-06", "1899-12", "2200-01" }) {
+            assertEquals(YearMonth.parse(input), CalendarValues.parseYearMonth(input), input);
+        }
+        for (String input : new String[] { "--01-01", "--02-29", "--04-30", "--12-31" }) {
+            assertEquals(MonthDay.parse(input), CalendarValues.parseMonthDay(input), input);
+        }
+    }
+
+    @Test
+    public void testSharedInstances() {
+        assertSame(CalendarValues.year(2020), CalendarValues.parseYear("2020"));
+        assertSame(CalendarValues.yearMonth(2020, 5), CalendarValues.parseYearMonth("2020-05"));
+        assertSame(CalendarValues.monthDay(2, 29), CalendarValues.parseMonthDay("--02-29"));
+        // outside tables, still fine, just not shared
+        assertEquals(Year.of(3000), CalendarValues.year(3000));
+        assertEquals(YearMonth.of(1066, 10), CalendarValues.yearMonth(1066, 10));
+    }
+
+    // Anything invalid (or non-canonical) is left for JDK to handle
+    @Test
+    public void testLeftForJDK() {
+        for (String input : new String[] { "", "202", "20201", "+2020", "-202", "20x0", "\uFF12\uFF10\uFF12\uFF10" }) {
+            assertNull(CalendarValues.parseYear(input), input);
+        }
+        for (String input : new String[] { "2020-00", "2020-13", "2020-1", "20-01", "2020/01", "+2020-01",
+                "2020-0a" }) {
+            assertNull(CalendarValues.parseYearMonth(input), input);
+        }
+        for (String input : new String[] { "--02-30", "--04-31", "--00-01", "--13-01", "--01-00",
+                "-01-01", "--1-01", "01-01", "--01/01" }) {
+            assertNull(CalendarValues.parseMonthDay(input), input);
+        }
+    }
+
+    @Test
+    public void testTextualRepresentations() {
+        assertEquals("2020", CalendarValues.serializedYear(Year.of(2020)).getValue());
+        assertNull(CalendarValues.serializedYear(Year.of(10000)));
+        assertEquals("1999-04", CalendarValues.serializedYearMonth(YearMonth.of(1999, 4)).getValue());
+        assertNull(CalendarValues.serializedYearMonth(YearMonth.of(-5, 4)));
+        assertEquals("--02-29", CalendarValues.serializedMonthDay(MonthDay.of(2, 29)).getValue());
+        assertEquals("--12-31", CalendarValues.serializedMonthDay(MonthDay.of(12, 31)).getValue());
+    }
+}
@@ -0,0 +1,71 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.TimeZone;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ContextZoneTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testFixedOffset() {
+        ContextZone zone = ContextZone.of(TimeZone.getTimeZone("GMT+03:00"));
+        assertEquals(ZoneOffset.ofHours(3), zone.getFixedOffset());
+        assertEquals(ZoneOffset.ofHours(3), zone.getOffset(0L));
+        assertEquals(ZoneOffset.ofHours(3), zone.getOffset(LocalDateTime.of(2020, 3, 29, 2, 30)));
+
+        zone = ContextZone.of(TimeZone.getTimeZone("UTC"));
+        assertEquals(ZoneId.of("UTC"), zone.getZoneId());
+        assertEquals(ZoneOffset.UTC, zone.getNormalizedZoneId());
+        assertEquals(ZoneOffset.UTC, zone.getFixedOffset());
+    }
+
+    @Test
+    public void testIsFor() {
+        TimeZone tz = TimeZone.getTimeZone("Europe/Paris");
+        ContextZone zone = ContextZone.of(tz);
+        assertTrue(zone.isFor(tz));
+        assertFalse(zone.isFor((TimeZone) tz.clone()));
+        tz.setID("UTC");
+        assertFalse(zone.isFor(tz));
+    }
+
+    // Offsets must match those from zone rules, also around transitions
+    // (including gaps and overlaps for local date-times)
+    @Test
+    public void testRegionOffsets() {
+        for (String id : new String[] { "Europe/Paris", "America/New_York", "Australia/Lord_Howe",
+                "Pacific/Apia", "Europe/Moscow" }) {
+            final ContextZone zone = ContextZone.of(TimeZone.getTimeZone(id));
+            assertNull(zone.getFixedOffset(), id);
+            final ZoneRules rules = ZoneId.of(id).getRules();
+            for (ZoneOffsetTransition t : rules.getTransitions()) {
+                final long secs = t.toEpochSecond();
+                for (long delta = -7200L; delta <= 7200L; delta += 900L) {
+                    final long s = secs + delta;
+                    assertEquals(rules.getOffset(Instant.ofEpochSecond(s)), zone.getOffset(s), id);
+                    assertEquals(rules.getOffset(Instant.ofEpochSecond(s - 1)), zone.getOffset(s - 1), id);
+                    final LocalDateTime ldt = LocalDateTime.ofEpochSecond(s, 500, ZoneOffset.UTC);
+                    assertEquals(rules.getOffset(ldt), zone.getOffset(ldt), id + " " + ldt);
+                }
+            }
+            // and beyond explicit transitions too
+            LocalDateTime ldt = LocalDateTime.of(2100, 1, 1, 0, 0);
+            for (int i = 0; i < 1000; ++i, ldt = ldt.plusHours(11)) {
+                assertEquals(rules.getOffset(ldt), zone.getOffset(ldt), id + " " + ldt);
+                final long s = ldt.toEpochSecond(ZoneOffset.UTC);
+                assertEquals(rules.getOffset(Instant.ofEpochSecond(s)), zone.getOffset(s), id);
+            }
+        }
+    }
+}
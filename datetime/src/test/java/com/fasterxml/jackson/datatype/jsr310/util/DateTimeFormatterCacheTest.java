@@ -0,0 +1,57 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimeFormatterCacheTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testSharedInstances() {
+        DateTimeFormatter df = DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.US, false, ResolverStyle.SMART, null);
+        assertSame(df, DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.US, false, ResolverStyle.SMART, null));
+        // but any difference in settings must result in different formatter
+        assertNotSame(df, DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.FRANCE, false, ResolverStyle.SMART, null));
+        assertNotSame(df, DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.US, true, ResolverStyle.SMART, null));
+        assertNotSame(df, DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.US, false, ResolverStyle.STRICT, null));
+        assertNotSame(df, DateTimeFormatterCache.formatter("yyyy/MM/dd HH:mm",
+                Locale.US, false, ResolverStyle.SMART, ZoneId.of("UTC")));
+    }
+
+    @Test
+    public void testSettings() {
+        final LocalDateTime dt = LocalDateTime.of(2020, 5, 6, 7, 8, 9);
+        DateTimeFormatter df = DateTimeFormatterCache.formatter("MMM dd uuuu HH:mm",
+                Locale.US, true, ResolverStyle.STRICT, ZoneId.of("Europe/Paris"));
+        assertEquals(DateTimeFormatter.ofPattern("MMM dd uuuu HH:mm", Locale.US).format(dt),
+                df.format(dt));
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8), LocalDateTime.parse("MAY 06 2020 07:08", df));
+        assertEquals(ResolverStyle.STRICT, df.getResolverStyle());
+        assertEquals(ZoneId.of("Europe/Paris"), df.getZone());
+        assertEquals("2020-05-06 09:08", DateTimeFormatterCache.formatter("yyyy-MM-dd HH:mm",
+                null, false, ResolverStyle.SMART, ZoneId.of("Europe/Paris"))
+                .format(ZonedDateTime.of(dt, ZoneId.of("UTC")).toInstant()));
+    }
+
+    @Test
+    public void testInvalidPattern() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DateTimeFormatterCache.formatter("yyyy-MM-dd {",
+                        null, false, ResolverStyle.SMART, null));
+    }
+}
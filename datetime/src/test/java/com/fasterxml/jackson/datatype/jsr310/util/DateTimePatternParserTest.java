@@ -0,0 +1,106 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimePatternParserTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testSameAsFormatter() {
+        for (ResolverStyle style : new ResolverStyle[] { ResolverStyle.SMART, ResolverStyle.STRICT }) {
+            _verify("uuuuMMdd'T'HHmmss.SSS", style, "20200506T070809.123");
+            _verify("uuuu-MM-dd HH:mm", style, "2020-02-29 23:59");
+            _verify("dd.MM.uu", style, "06.05.20");
+            _verify("HH:mm:ss.SSSSSSSSS", style, "07:08:09.000000001");
+            _verify("uuuuMMddHHmmss", style, "00010101000000");
+        }
+        _verify("yyyy/MM/dd", ResolverStyle.SMART, "2020/05/06");
+        _verify("yyMMdd", ResolverStyle.SMART, "991231");
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        DateTimePatternParser p = DateTimePatternParser.compile("uuuu-MM-dd'T'HH:mm", true,
+                ResolverStyle.SMART);
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8), _parseLocalDateTime(p, "2020-05-06t07:08"));
+        p = DateTimePatternParser.compile("uuuu-MM-dd'T'HH:mm", false, ResolverStyle.SMART);
+        assertNull(_parseLocalDateTime(p, "2020-05-06t07:08"));
+    }
+
+    // Anything formatter would reject or adjust is left for it to handle
+    @Test
+    public void testLeftForFormatter() {
+        for (ResolverStyle style : new ResolverStyle[] { ResolverStyle.SMART, ResolverStyle.STRICT }) {
+            DateTimePatternParser p = DateTimePatternParser.compile("uuuu-MM-dd HH:mm", false, style);
+            for (String input : new String[] {
+                    "2021-02-29 10:00", "2020-04-31 10:00", "2020-13-01 10:00", "2020-00-01 10:00",
+                    "2020-01-00 10:00", "2020-01-01 24:00", "2020-01-01 10:60", "2020-01-01 10:0",
+                    "2020-01-01 10:000", "+202-01-01 10:00", "2020/01/01 10:00", "2020-01-01T10:00"
+            }) {
+                assertNull(_parseLocalDateTime(p, input), input);
+            }
+        }
+    }
+
+    @Test
+    public void testMissingFields() {
+        DateTimePatternParser p = DateTimePatternParser.compile("uuuuMMdd", false, ResolverStyle.SMART);
+        assertNull(_parseLocalDateTime(p, "20200506"));
+        assertNull(p.parseLocalTime("20200506".toCharArray(), 0, 8));
+        assertEquals(LocalDate.of(2020, 5, 6), p.parseLocalDate("20200506".toCharArray(), 0, 8));
+        p = DateTimePatternParser.compile("HH'h'", false, ResolverStyle.SMART);
+        assertEquals(LocalTime.of(7, 0), p.parseLocalTime("07h".toCharArray(), 0, 3));
+    }
+
+    @Test
+    public void testUnsupported() {
+        for (String pattern : new String[] {
+                "uuuu-M-d", "uuuu-MMM-dd", "uuuu-MM-dd HH:mm:ss[.SSS]", "uuuu-MM", "HH:ss",
+                "uuuu-MM-dd HH:mm:ssXXX", "uuuuMMddHHmmssSSS", "uuuu'1'MMdd", "uuuuu-MM-dd",
+                "uuuu-MM-dd-dd", "EEE uuuu-MM-dd", "hh:mm a"
+        }) {
+            assertNull(DateTimePatternParser.compile(pattern, false, ResolverStyle.SMART), pattern);
+        }
+        // year-of-era requires era with strict resolution
+        assertNull(DateTimePatternParser.compile("yyyy-MM-dd", false, ResolverStyle.STRICT));
+        assertNull(DateTimePatternParser.compile("uuuu-MM-dd", false, ResolverStyle.LENIENT));
+    }
+
+    private void _verify(String pattern, ResolverStyle style, String input) {
+        DateTimePatternParser p = DateTimePatternParser.compile(pattern, false, style);
+        assertNotNull(p, pattern);
+        DateTimeFormatter f = new DateTimeFormatterBuilder().appendPattern(pattern)
+                .toFormatter(Locale.US).withResolverStyle(style);
+        char[] ch = input.toCharArray();
+        LocalDate date = p.parseLocalDate(ch, 0, ch.length);
+        if (date != null) {
+            assertEquals(LocalDate.parse(input, f), date, pattern);
+        }
+        LocalTime time = p.parseLocalTime(ch, 0, ch.length);
+        if (time != null) {
+            assertEquals(LocalTime.parse(input, f), time, pattern);
+        }
+        LocalDateTime dt = p.parseLocalDateTime(ch, 0, ch.length);
+        if (dt != null) {
+            assertEquals(LocalDateTime.parse(input, f), dt, pattern);
+        }
+        assertTrue((date != null) || (time != null), pattern);
+    }
+
+    private static LocalDateTime _parseLocalDateTime(DateTimePatternParser p, String input) {
+        char[] ch = input.toCharArray();
+        return p.parseLocalDateTime(ch, 0, ch.length);
+    }
+}
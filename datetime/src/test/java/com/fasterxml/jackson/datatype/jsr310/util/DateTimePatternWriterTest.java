@@ -0,0 +1,91 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.ResolverStyle;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DateTimePatternWriterTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testSameAsFormatter() {
+        final OffsetDateTime[] values = new OffsetDateTime[] {
+                OffsetDateTime.of(2020, 5, 6, 7, 8, 9, 123456789, ZoneOffset.UTC),
+                OffsetDateTime.of(1, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHoursMinutes(5, 30)),
+                OffsetDateTime.of(9999, 12, 31, 23, 59, 59, 999999999, ZoneOffset.ofHours(-18)),
+                OffsetDateTime.of(1999, 10, 3, 12, 30, 5, 7000, ZoneOffset.ofHoursMinutes(-3, -30)),
+        };
+        for (String pattern : new String[] {
+                "yyyyMMdd'T'HHmmss.SSS", "uuuu-MM-dd HH:mm:ss", "yy/M/d H:m:s",
+                "dd.MM.yyyy", "HH:mm:ss.SSSSSSSSS", "yyyyMMddHHmmssSSSSSSX",
+                "uuuu-MM-dd'T'HH:mmXX", "uuuu-MM-dd'T'HH:mm:ssXXX", "yyyyMMddHHmmx",
+                "yyyy-MM-dd'T'HH:mm:ss.nnnnnnnnnxxx", "'at' H 'o''clock'", "''yyyy''"
+        }) {
+            DateTimePatternWriter w = DateTimePatternWriter.compile(pattern);
+            assertNotNull(w, pattern);
+            DateTimeFormatter f = DateTimeFormatter.ofPattern(pattern, Locale.US);
+            for (OffsetDateTime value : values) {
+                assertEquals(f.format(value), _write(w, value), pattern);
+            }
+        }
+    }
+
+    @Test
+    public void testUnsupported() {
+        for (String pattern : new String[] {
+                "yyyy-MMM-dd", "EEE, dd MM yyyy", "hh:mm a", "yyyy-MM-dd[ HH:mm]",
+                "yyyy-MM-dd VV", "yyyy-MM-dd z", "yyyyy-MM-dd", "HH:mm:ssXXXXX",
+                "yyyy-MM-dd'T", "ppH"
+        }) {
+            assertNull(DateTimePatternWriter.compile(pattern), pattern);
+        }
+    }
+
+    @Test
+    public void testUnsupportedValues() {
+        DateTimePatternWriter w = DateTimePatternWriter.compile("yyyy-MM-dd HH:mmXXX");
+        char[] buf = new char[TextBuffers.BUFFER_LENGTH];
+        // year 0 would need era handling
+        assertEquals(-1, w.write(buf, 0, 0, 1, 1, 0, 0, 0, 0, 0));
+        assertEquals(-1, w.write(buf, 0, 10000, 1, 1, 0, 0, 0, 0, 0));
+        // nor can offsets with seconds be written
+        assertEquals(-1, w.write(buf, 0, 2000, 1, 1, 0, 0, 0, 0, 3601));
+        // but without offset in pattern, that is fine
+        w = DateTimePatternWriter.compile("yyyy-MM-dd HH:mm");
+        assertFalse(w.usesOffset());
+        int end = w.write(buf, 0, 2000, 1, 1, 0, 0, 0, 0, 3601);
+        assertEquals("2000-01-01 00:00", new String(buf, 0, end));
+    }
+
+    @Test
+    public void testFromFormatterCache() {
+        DateTimeFormatter f = DateTimeFormatterCache.formatter("yyyyMMdd",
+                Locale.US, false, ResolverStyle.SMART, null);
+        assertNotNull(DateTimeFormatterCache.patternWriter(f));
+        assertNull(DateTimeFormatterCache.patternWriter(DateTimeFormatter.ofPattern("yyyyMMdd")));
+        f = DateTimeFormatterCache.formatter("dd MMM yyyy",
+                Locale.US, false, ResolverStyle.SMART, null);
+        assertNull(DateTimeFormatterCache.patternWriter(f));
+        assertEquals("20200506", _write(DateTimeFormatterCache.patternWriter(
+                DateTimeFormatterCache.formatter("yyyyMMdd", Locale.US, false,
+                        ResolverStyle.SMART, null)),
+                OffsetDateTime.ofInstant(Instant.ofEpochSecond(1588748889L), ZoneOffset.UTC)));
+    }
+
+    private static String _write(DateTimePatternWriter w, OffsetDateTime value) {
+        char[] buf = new char[TextBuffers.BUFFER_LENGTH];
+        int end = w.write(buf, 0, value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                value.getHour(), value.getMinute(), value.getSecond(), value.getNano(),
+                value.getOffset().getTotalSeconds());
+        return new String(buf, 0, end);
+    }
+}
@@ -0,0 +1,237 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsoDateTimeParserTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testInstantValid() {
+        for (String input : new String[] {
+                "1970-01-01T00:00:00Z",
+                "2000-02-29T23:59:59Z",
+                "2024-12-31T12:34:56.7Z",
+                "2024-12-31T12:34:56.789Z",
+                "2024-12-31T12:34:56.123456789Z",
+                "0001-01-01T00:00:00.000000001Z",
+                "1969-12-31T23:59:59.999999999Z",
+                "9999-12-31T23:59:59Z",
+        }) {
+            assertEquals(Instant.from(DateTimeFormatter.ISO_INSTANT.parse(input)),
+                    parseInstant(input, false), input);
+        }
+    }
+
+    @Test
+    public void testInstantZeroOffset() {
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                parseInstant("2020-05-06T07:08:09+00:00", true));
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                parseInstant("2020-05-06T07:08:09+0000", true));
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                parseInstant("2020-05-06T07:08:09+00", true));
+        assertNull(parseInstant("2020-05-06T07:08:09+00:00", false));
+        assertNull(parseInstant("2020-05-06T07:08:09+01:00", true));
+        assertNull(parseInstant("2020-05-06T07:08:09-00:00", true));
+    }
+
+    @Test
+    public void testOffsetDateTimeValid() {
+        for (String input : new String[] {
+                "2020-05-06T07:08Z",
+                "2020-05-06T07:08:09Z",
+                "2020-05-06T07:08:09.5+01:00",
+                "2020-05-06T07:08:09.123-05:30",
+                "2020-05-06T07:08:09.123456+18:00",
+                "2020-05-06T07:08:09-18:00",
+                "2020-05-06T07:08:09-00:00",
+        }) {
+            assertEquals(OffsetDateTime.from(DateTimeFormatter.ISO_OFFSET_DATE_TIME.parse(input)),
+                    parseOffsetDateTime(input, false), input);
+        }
+        // colon-less offset too
+        assertEquals(OffsetDateTime.parse("2020-05-06T07:08:09+05:30"),
+                parseOffsetDateTime("2020-05-06T07:08:09+0530", false));
+    }
+
+    @Test
+    public void testZonedDateTimeValid() {
+        assertEquals(ZonedDateTime.parse("2020-05-06T07:08:09.1+02:00"),
+                parseZonedDateTime("2020-05-06T07:08:09.1+02:00", false));
+        assertEquals(ZonedDateTime.parse("2020-05-06T07:08:09Z"),
+                parseZonedDateTime("2020-05-06T07:08:09Z", false));
+        assertEquals(ZoneOffset.ofHours(-3),
+                parseZonedDateTime("2020-05-06T07:08:09-0300", false).getZone());
+        // region-based zone ids accepted when offset is the only valid one for zone
+        for (String input : new String[] {
+                "2020-05-06T07:08:09+02:00[Europe/Paris]",
+                "2020-01-06T07:08:09+01:00[Europe/Paris]",
+                "2020-05-06T07:08:09Z[UTC]",
+                "2020-01-06T07:08:09Z[Europe/London]",
+        }) {
+            assertEquals(ZonedDateTime.parse(input), parseZonedDateTime(input, false), input);
+        }
+        // but others need to be handled by formatter
+        for (String input : new String[] {
+                // offset not valid for zone: resolution differs between JDK 8 and later
+                "2020-06-01T10:00:00+00:00[Europe/Paris]",
+                "2020-05-06T07:08:09Z[Europe/Paris]",
+                "2020-11-01T01:30:00-05:00[America/New_York]",
+                // gap, overlap
+                "2020-03-29T02:30:00+01:00[Europe/Paris]",
+                "2020-10-25T02:30:00+01:00[Europe/Paris]",
+                "2020-10-25T02:30:00+02:00[Europe/Paris]",
+                "2020-05-06T07:08:09+0200[Europe/Paris]",
+                "2020-05-06T07:08:09+02[Europe/Paris]",
+                "2020-05-06T07:08:09+02:00[+02:00]",
+                "2020-05-06T07:08:09+02:00[UTC+02:00]",
+                "2020-05-06T07:08:09+02:00[europe/paris]",
+                "2020-05-06T07:08:09+02:00[Europe/Nowhere]",
+                "2020-05-06T07:08:09+02:00[]",
+                "2020-05-06T07:08:09+02:00Europe/Paris]",
+        }) {
+            assertNull(parseZonedDateTime(input, true), input);
+        }
+    }
+
+    @Test
+    public void testNonCanonical() {
+        for (String input : new String[] {
+                "",
+                "2020-05-06",
+                "2020-05-06T",
+                "2020-05-06t07:08:09Z",
+                "2020-05-06T07:08:09z",
+                "+2020-05-06T07:08:09Z",
+                "12020-05-06T07:08:09Z",
+                "2020-5-06T07:08:09Z",
+                "2020-05-06T07:08:09.Z",
+                "2020-05-06T07:08:09.1234567890Z",
+                "2020-05-06T07:08:9Z",
+                "2020-05-06T07:08:09+01",
+                "2020-05-06T07:08:09+19:00",
+                "2020-05-06T07:08:09+01:60",
+                "2020-05-06T07:08:09+01:00:30",
+                "2020-05-06T07:08:09 Z",
+        }) {
+            char[] ch = input.toCharArray();
+            assertNull(IsoDateTimeParser.parseInstant(ch, 0, ch.length, true), input);
+            assertNull(IsoDateTimeParser.parseOffsetDateTime(ch, 0, ch.length, true), input);
+            assertNull(IsoDateTimeParser.parseZonedDateTime(ch, 0, ch.length, true), input);
+        }
+    }
+
+    @Test
+    public void testInvalidValues() {
+        for (String input : new String[] {
+                "2020-00-06T07:08:09Z",
+                "2020-13-06T07:08:09Z",
+                "2020-05-00T07:08:09Z",
+                "2020-04-31T07:08:09Z",
+                "2019-02-29T07:08:09Z",
+                "1900-02-29T07:08:09Z",
+                "2020-05-06T24:00:00Z",
+                "2020-05-06T07:60:09Z",
+                "2020-05-06T07:08:60Z",
+        }) {
+            char[] ch = input.toCharArray();
+            assertNull(IsoDateTimeParser.parseInstant(ch, 0, ch.length, false), input);
+            assertNull(IsoDateTimeParser.parseOffsetDateTime(ch, 0, ch.length, false), input);
+        }
+    }
+
+    @Test
+    public void testSubRange() {
+        char[] ch = "[\"2020-05-06T07:08:09Z\"]".toCharArray();
+        assertEquals(Instant.parse("2020-05-06T07:08:09Z"),
+                IsoDateTimeParser.parseInstant(ch, 2, ch.length - 2, false));
+    }
+
+    @Test
+    public void testLocalDate() {
+        assertEquals(LocalDate.of(2020, 2, 29), parseLocalDate("2020-02-29"));
+        assertEquals(LocalDate.of(1, 1, 1), parseLocalDate("0001-01-01"));
+        assertNull(parseLocalDate("2021-02-29"));
+        assertNull(parseLocalDate("2020-02-29T00:00"));
+        assertNull(parseLocalDate("+2020-02-29"));
+        assertNull(parseLocalDate("2020-2-29"));
+    }
+
+    @Test
+    public void testLocalDateTime() {
+        for (String input : new String[] {
+                "2020-05-06T07:08",
+                "2020-05-06T07:08:09",
+                "2020-05-06T07:08:09.1",
+                "2020-05-06T07:08:09.123456789",
+        }) {
+            char[] ch = input.toCharArray();
+            assertEquals(LocalDateTime.parse(input),
+                    IsoDateTimeParser.parseLocalDateTime(ch, 0, ch.length), input);
+        }
+        char[] ch = "2020-05-06T07:08:09Z".toCharArray();
+        assertNull(IsoDateTimeParser.parseLocalDateTime(ch, 0, ch.length));
+        assertEquals(LocalDateTime.of(2020, 5, 6, 7, 8, 9),
+                IsoDateTimeParser.parseLocalDateTime(ch, 0, ch.length - 1));
+    }
+
+    @Test
+    public void testLocalTime() {
+        for (String input : new String[] {
+                "00:00", "23:59", "07:08:09", "07:08:09.5", "23:59:59.999999999",
+        }) {
+            char[] ch = input.toCharArray();
+            assertEquals(LocalTime.parse(input),
+                    IsoDateTimeParser.parseLocalTime(ch, 0, ch.length), input);
+        }
+        for (String input : new String[] {
+                "", "7:08", "24:00", "07:08:", "07:08:09.", "07:08:09Z", "07:8",
+        }) {
+            char[] ch = input.toCharArray();
+            assertNull(IsoDateTimeParser.parseLocalTime(ch, 0, ch.length), input);
+        }
+    }
+
+    // All parsed with both char[] and String variants, which must agree
+
+    private static LocalDate parseLocalDate(String input) {
+        char[] ch = input.toCharArray();
+        LocalDate value = IsoDateTimeParser.parseLocalDate(ch, 0, ch.length);
+        assertEquals(value, IsoDateTimeParser.parseLocalDate(input), input);
+        return value;
+    }
+
+    private static Instant parseInstant(String input, boolean zeroOffsetAsZ) {
+        char[] ch = input.toCharArray();
+        Instant value = IsoDateTimeParser.parseInstant(ch, 0, ch.length, zeroOffsetAsZ);
+        assertEquals(value, IsoDateTimeParser.parseInstant(input, zeroOffsetAsZ), input);
+        return value;
+    }
+
+    private static OffsetDateTime parseOffsetDateTime(String input, boolean zeroOffsetAsZ) {
+        char[] ch = input.toCharArray();
+        OffsetDateTime value = IsoDateTimeParser.parseOffsetDateTime(ch, 0, ch.length, zeroOffsetAsZ);
+        assertEquals(value, IsoDateTimeParser.parseOffsetDateTime(input, zeroOffsetAsZ), input);
+        return value;
+    }
+
+    private static ZonedDateTime parseZonedDateTime(String input, boolean zeroOffsetAsZ) {
+        char[] ch = input.toCharArray();
+        ZonedDateTime value = IsoDateTimeParser.parseZonedDateTime(ch, 0, ch.length, zeroOffsetAsZ);
+        assertEquals(value, IsoDateTimeParser.parseZonedDateTime(input, zeroOffsetAsZ), input);
+        return value;
+    }
+}
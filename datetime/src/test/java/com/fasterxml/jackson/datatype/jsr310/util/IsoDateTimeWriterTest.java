@@ -0,0 +1,155 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsoDateTimeWriterTest
+    extends ModuleTestBase
+{
+    private final static String[] INSTANTS = new String[] {
+            "1970-01-01T00:00:00Z",
+            "1969-12-31T23:59:59.999999999Z",
+            "2000-02-29T12:00:00.100Z",
+            "2024-12-31T12:34:56.000120Z",
+            "2024-12-31T12:34:56.000000001Z",
+            "2024-01-01T00:00:00.5Z",
+            "0000-01-01T00:00:00Z",
+            "0000-02-29T23:59:59Z",
+            "0001-03-01T00:00:00Z",
+            "1900-03-01T00:00:00Z",
+            "9999-12-31T23:59:59.999Z",
+    };
+
+    @Test
+    public void testInstant() {
+        for (String input : INSTANTS) {
+            Instant value = Instant.parse(input);
+            assertEquals(value.toString(), writeInstant(value), input);
+        }
+        // years beyond 4 digits not handled
+        assertNull(writeInstant(Instant.parse("+10000-01-01T00:00:00Z")));
+        assertNull(writeInstant(Instant.parse("-0001-12-31T23:59:59Z")));
+    }
+
+    @Test
+    public void testOffsetDateTime() {
+        final ZoneOffset[] offsets = new ZoneOffset[] {
+                ZoneOffset.UTC, ZoneOffset.ofHours(2), ZoneOffset.ofHoursMinutes(-5, -30),
+                ZoneOffset.ofHoursMinutesSeconds(1, 2, 3), ZoneOffset.MIN, ZoneOffset.MAX
+        };
+        for (String input : INSTANTS) {
+            Instant instant = Instant.parse(input);
+            for (ZoneOffset offset : offsets) {
+                OffsetDateTime value = instant.atOffset(offset);
+                String exp = (value.getYear() < 0 || value.getYear() > 9999) ? null
+                        : DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value);
+                assertEquals(exp, writeOffsetDateTime(value.toEpochSecond(), value.getNano(), offset),
+                        value.toString());
+            }
+        }
+    }
+
+    @Test
+    public void testZoneId() {
+        ZonedDateTime value = ZonedDateTime.of(2021, 3, 28, 3, 15, 0, 120_000_000,
+                ZoneId.of("Europe/Helsinki"));
+        char[] buf = new char[100];
+        int end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, value.toEpochSecond(), value.getNano(),
+                value.getOffset().getTotalSeconds());
+        end = IsoDateTimeWriter.writeZoneId(buf, end, value.getZone().getId());
+        assertEquals(DateTimeFormatter.ISO_ZONED_DATE_TIME.format(value), new String(buf, 0, end));
+
+        // and must not overflow buffer
+        assertEquals(-1, IsoDateTimeWriter.writeZoneId(new char[10], 0, "Europe/Helsinki"));
+    }
+
+    @Test
+    public void testLocalDateTime() {
+        for (String input : new String[] {
+                "0000-01-01T00:00", "1999-12-31T23:59:59", "2024-02-29T12:00:00.1",
+                "2024-02-29T12:00:00.000001", "9999-12-31T23:59:59.999999999",
+        }) {
+            LocalDateTime value = LocalDateTime.parse(input);
+            char[] buf = new char[IsoDateTimeWriter.MAX_DATE_TIME_LENGTH];
+            int end = IsoDateTimeWriter.writeLocalDate(buf, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            assertEquals(value.toLocalDate().toString(), new String(buf, 0, end));
+            end = IsoDateTimeWriter.writeLocalDateTime(buf, 0,
+                    value.getYear(), value.getMonthValue(), value.getDayOfMonth(),
+                    value.getHour(), value.getMinute(), value.getSecond(), value.getNano());
+            assertEquals(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value), new String(buf, 0, end));
+            LocalTime time = value.toLocalTime();
+            end = IsoDateTimeWriter.writeLocalTime(buf, 0,
+                    time.getHour(), time.getMinute(), time.getSecond(), time.getNano());
+            assertEquals(DateTimeFormatter.ISO_LOCAL_TIME.format(time), new String(buf, 0, end));
+        }
+        assertEquals(-1, IsoDateTimeWriter.writeLocalDate(new char[20], 0, 10000, 1, 1));
+        assertEquals(-1, IsoDateTimeWriter.writeLocalDate(new char[20], 0, -1, 1, 1));
+        assertEquals("+10000-01-01", LocalDate.of(10000, 1, 1).toString());
+    }
+
+    @Test
+    public void testPrefixCache() throws Exception {
+        // Cache is per-thread, so use a new thread to start with empty cache
+        final Throwable[] fail = new Throwable[1];
+        Thread t = new Thread(() -> {
+            try {
+                _testPrefixCache();
+            } catch (Throwable e) {
+                fail[0] = e;
+            }
+        });
+        t.start();
+        t.join();
+        if (fail[0] != null) {
+            throw new AssertionError("Prefix cache check failed", fail[0]);
+        }
+    }
+
+    private void _testPrefixCache() {
+        final long secs = Instant.parse("2024-05-06T07:08:09Z").getEpochSecond();
+        char[] buf = new char[IsoDateTimeWriter.MAX_DATE_TIME_LENGTH];
+        assertEquals(Long.MIN_VALUE, DateTimePrefixCache.cachedLocalSecond());
+
+        int end = IsoDateTimeWriter.writeInstant(buf, 0, secs, 100_000_000, true);
+        assertEquals("2024-05-06T07:08:09.100Z", new String(buf, 0, end));
+        assertEquals(secs, DateTimePrefixCache.cachedLocalSecond());
+        end = IsoDateTimeWriter.writeInstant(buf, 0, secs, 123_456, true);
+        assertEquals("2024-05-06T07:08:09.000123456Z", new String(buf, 0, end));
+        // same local second, different offset and instant
+        end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, secs - 3600, 0, 3600, true);
+        assertEquals("2024-05-06T07:08:09+01:00", new String(buf, 0, end));
+        assertEquals(secs, DateTimePrefixCache.cachedLocalSecond());
+        end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, secs + 1, 5, 0, true);
+        assertEquals("2024-05-06T07:08:10.000000005Z", new String(buf, 0, end));
+        assertEquals(secs + 1, DateTimePrefixCache.cachedLocalSecond());
+        // out of range values never reach cache
+        assertEquals(-1, IsoDateTimeWriter.writeInstant(buf, 0, Instant.MAX.getEpochSecond(), 0, true));
+        assertEquals(secs + 1, DateTimePrefixCache.cachedLocalSecond());
+    }
+
+    private static String writeInstant(Instant value) {
+        char[] buf = new char[IsoDateTimeWriter.MAX_DATE_TIME_LENGTH];
+        int end = IsoDateTimeWriter.writeInstant(buf, 0, value.getEpochSecond(), value.getNano());
+        return (end < 0) ? null : new String(buf, 0, end);
+    }
+
+    private static String writeOffsetDateTime(long secs, int nanos, ZoneOffset offset) {
+        char[] buf = new char[IsoDateTimeWriter.MAX_DATE_TIME_LENGTH];
+        int end = IsoDateTimeWriter.writeOffsetDateTime(buf, 0, secs, nanos, offset.getTotalSeconds());
+        return (end < 0) ? null : new String(buf, 0, end);
+    }
+}
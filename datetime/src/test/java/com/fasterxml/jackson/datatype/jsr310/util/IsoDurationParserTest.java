@@ -0,0 +1,55 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.Duration;
+import java.time.Period;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class IsoDurationParserTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testDurationSameAsJDK() {
+        for (String input : new String[] {
+                "PT0S", "PT15M", "PT8H6M12.345S", "P2DT3H4M", "-PT6H3M", "-PT-6H+3M",
+                "pt1.5s", "PT1,5S", "PT1.S", "PT-1.5S", "PT20.000000001S", "P999999999D",
+                "PT+5H", "P-2D", "+P1DT1S"
+        }) {
+            Duration d = IsoDurationParser.parseDuration(input);
+            assertNotNull(d, input);
+            assertEquals(Duration.parse(input), d, input);
+        }
+    }
+
+    @Test
+    public void testPeriodSameAsJDK() {
+        for (String input : new String[] {
+                "P0D", "P1Y2M3D", "P4W", "P1Y2M3W4D", "-P1Y2M", "-P-1Y+2M", "p1y", "P+5M",
+                "P99999999W999999999D"
+        }) {
+            Period p = IsoDurationParser.parsePeriod(input);
+            assertNotNull(p, input);
+            assertEquals(Period.parse(input), p, input);
+        }
+    }
+
+    // Anything invalid (or too big for fast path) is left for JDK to handle
+    @Test
+    public void testLeftForJDK() {
+        for (String input : new String[] {
+                "", "P", "PT", "P1DT", "PT1D", "P1M", "PT1S1M", "PT1.1234567891S", "PT.5S",
+                "PT1", "PT1X", "P 1D", "PT1234567890S", "PT-0.5S", "1D", "PT1H1H"
+        }) {
+            assertNull(IsoDurationParser.parseDuration(input), input);
+        }
+        for (String input : new String[] {
+                "", "P", "PT1D", "P1D1M", "P1", "P1234567890D", "P123456789W", "P1Y1Y", "P-D"
+        }) {
+            assertNull(IsoDurationParser.parsePeriod(input), input);
+        }
+    }
+}
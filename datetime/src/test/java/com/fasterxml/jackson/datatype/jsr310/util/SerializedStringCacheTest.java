@@ -0,0 +1,42 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SerializedStringCacheTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testFindAndAdd() {
+        SerializedStringCache cache = new SerializedStringCache(16);
+        assertNull(cache.find(19000L));
+        SerializableString str = cache.add(19000L, "2022-01-08");
+        assertEquals("2022-01-08", str.getValue());
+        assertSame(str, cache.find(19000L));
+        assertNull(cache.find(19001L));
+        assertNull(cache.find(-19000L));
+    }
+
+    @Test
+    public void testBounded() {
+        SerializedStringCache cache = new SerializedStringCache(10);
+        for (long key = 0; key < 1000; ++key) {
+            cache.add(key, String.valueOf(key));
+        }
+        int found = 0;
+        for (long key = 0; key < 1000; ++key) {
+            SerializableString str = cache.find(key);
+            if (str != null) {
+                assertEquals(String.valueOf(key), str.getValue());
+                ++found;
+            }
+        }
+        // size rounded up to 16 slots
+        assertTrue(found <= 16, "Should have at most 16 entries, had "+found);
+        assertTrue(found > 0);
+    }
+}
@@ -0,0 +1,50 @@
+package com.fasterxml.jackson.datatype.jsr310.util;
+
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.datatype.jsr310.ModuleTestBase;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZoneIdCacheTest
+    extends ModuleTestBase
+{
+    @Test
+    public void testZoneIds() {
+        for (String id : new String[] {
+                "Z", "UTC", "GMT", "UT", "+01:00", "-05:30", "+18:00", "-00:00", "+01:02:03",
+                "+5", "UTC+01:00", "Europe/Paris", "America/Chicago", "Etc/GMT+5"
+        }) {
+            final ZoneId exp = ZoneId.of(id);
+            assertEquals(exp, ZoneIdCache.zoneId(id), id);
+            // and second time from cache
+            assertEquals(exp, ZoneIdCache.zoneId(id), id);
+            assertEquals(exp.getClass(), ZoneIdCache.zoneId(id).getClass(), id);
+        }
+        assertSame(ZoneIdCache.zoneId("Europe/Paris"), ZoneIdCache.zoneId("Europe/Paris"));
+    }
+
+    @Test
+    public void testZoneOffsets() {
+        for (String id : new String[] {
+                "Z", "+01:00", "-05:30", "+18:00", "-18:00", "-00:00", "+01:02:03", "+5", "+0530"
+        }) {
+            final ZoneOffset exp = ZoneOffset.of(id);
+            assertEquals(exp, ZoneIdCache.zoneOffset(id), id);
+            assertEquals(exp, ZoneIdCache.zoneOffset(id), id);
+        }
+    }
+
+    @Test
+    public void testInvalid() {
+        for (int i = 0; i < 2; ++i) {
+            assertThrows(DateTimeException.class, () -> ZoneIdCache.zoneId("Europe/Nowhere"));
+            assertThrows(DateTimeException.class, () -> ZoneIdCache.zoneOffset("UTC"));
+            assertThrows(DateTimeException.class, () -> ZoneIdCache.zoneOffset("+19:00"));
+        }
+    }
+}